@@ -0,0 +1,48 @@
+#!/bin/sh
+# Measures the time from launching Intern Watcher to showing its first frame, with and without the class data
+# sharing archive, over a number of launches (5 by default).
+#
+# Usage: scripts/benchmark-startup.sh [launches]
+# Run `gradlew cdsArchive` first. Each launch starts the app in a scratch directory, so that the data and
+# preferences it writes do not affect the next launch, and exits as soon as the app has loaded its data.
+
+set -e
+
+LAUNCHES=${1:-5}
+LIBS=$(cd "$(dirname "$0")/../build/libs" && pwd)
+JAR="$LIBS/internwatcher.jar"
+ARCHIVE="$LIBS/internwatcher.jsa"
+
+if [ ! -f "$JAR" ] || [ ! -f "$ARCHIVE" ]; then
+    echo "Missing $JAR or $ARCHIVE; run 'gradlew cdsArchive' first." >&2
+    exit 1
+fi
+
+# Prints the milliseconds to the first frame of one launch of the app with the given JVM options.
+first_frame_millis() {
+    SCRATCH=$(mktemp -d)
+    (cd "$SCRATCH" && java "$@" -jar "$JAR" --exitAfterStart=true 2>&1) \
+        | sed -n 's/.*First frame shown \([0-9]*\) ms after launch.*/\1/p'
+    rm -rf "$SCRATCH"
+}
+
+# Launches the app repeatedly with the given JVM options and prints the mean, minimum and maximum times.
+benchmark() {
+    LABEL=$1
+    shift
+    TIMES=""
+    i=0
+    while [ "$i" -lt "$LAUNCHES" ]; do
+        TIMES="$TIMES $(first_frame_millis "$@")"
+        i=$((i + 1))
+    done
+    echo "$TIMES" | tr ' ' '\n' | awk -v label="$LABEL" 'NF {
+            sum += $1; n++
+            if (min == "" || $1 < min) min = $1
+            if ($1 > max) max = $1
+        }
+        END { printf "%-16s mean %6.0f ms  min %6d ms  max %6d ms  (%d launches)\n", label, sum / n, min, max, n }'
+}
+
+benchmark "without archive"
+benchmark "with archive" -Xshare:on -XX:SharedArchiveFile="$ARCHIVE"
@@ -0,0 +1,12 @@
+@echo off
+rem Launches Intern Watcher from the jar in the same directory as this script, using the class data sharing
+rem archive created by `gradlew cdsArchive` if it is there. Arguments are passed on to the app.
+
+set JAR=%~dp0internwatcher.jar
+set ARCHIVE=%~dp0internwatcher.jsa
+
+if exist "%ARCHIVE%" (
+    java -Xshare:auto -XX:SharedArchiveFile="%ARCHIVE%" -jar "%JAR%" %*
+) else (
+    java -jar "%JAR%" %*
+)
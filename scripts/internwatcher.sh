@@ -0,0 +1,13 @@
+#!/bin/sh
+# Launches Intern Watcher from the jar in the same directory as this script, using the class data sharing
+# archive created by `gradlew cdsArchive` if it is there. Arguments are passed on to the app.
+
+DIR=$(cd "$(dirname "$0")" && pwd)
+JAR="$DIR/internwatcher.jar"
+ARCHIVE="$DIR/internwatcher.jsa"
+
+if [ -f "$ARCHIVE" ]; then
+    # -Xshare:auto falls back to loading classes normally if the archive does not match this JVM or jar
+    exec java -Xshare:auto -XX:SharedArchiveFile="$ARCHIVE" -jar "$JAR" "$@"
+fi
+exec java -jar "$JAR" "$@"
@@ -0,0 +1,25 @@
+package seedu.intern.benchmark;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.intern.model.applicant.Applicant;
+
+/**
+ * Contains utility methods shared by the benchmarks.
+ */
+public class BenchmarkUtil {
+
+    /**
+     * Returns the number of {@code applicants} that pass {@code predicate}.
+     */
+    public static long count(List<Applicant> applicants, Predicate<Applicant> predicate) {
+        long matches = 0;
+        for (Applicant applicant : applicants) {
+            if (predicate.test(applicant)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
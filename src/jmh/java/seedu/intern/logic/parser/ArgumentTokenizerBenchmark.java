@@ -0,0 +1,42 @@
+package seedu.intern.logic.parser;
+
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_COURSE;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_GRADE;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_GRADUATIONYEARMONTH;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_INSTITUTION;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_JOB;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_SKILL;
+import static seedu.intern.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures splitting the arguments of typical add and filter commands by prefix.
+ */
+@State(Scope.Thread)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ALL_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_GRADE,
+        PREFIX_INSTITUTION, PREFIX_COURSE, PREFIX_GRADUATIONYEARMONTH, PREFIX_JOB, PREFIX_STATUS,
+        PREFIX_SKILL};
+
+    private String addArguments = " n/John Doe p/98765432 e/johnd@example.com g/4.50 i/NUS c/Computer Science"
+            + " y/05/2024 j/Software Engineer a/APPLIED s/Java s/Python s/SQL";
+    private String filterArguments = " g/3.50 i/NUS i/NTU j/Software Engineer a/INTERVIEWED s/Java";
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ArgumentTokenizer.tokenize(addArguments, ALL_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeFilter() {
+        return ArgumentTokenizer.tokenize(filterArguments, ALL_PREFIXES);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.intern.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures taking and restoring the snapshots that undo and redo are built on.
+ */
+@State(Scope.Thread)
+public class VersionedInternWatcherBenchmark {
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private VersionedInternWatcher internWatcher;
+
+    /**
+     * Creates an intern watcher with {@code size} applicants and one earlier state to undo to.
+     */
+    @Setup
+    public void setUp() {
+        internWatcher = new VersionedInternWatcher(SyntheticDataGenerator.generateInternWatcher(size));
+        internWatcher.commitState("benchmark");
+    }
+
+    /**
+     * Undoes the last state and commits it again, so that the history does not grow.
+     */
+    @Benchmark
+    public VersionedInternWatcher undoThenCommitState() throws CommandException {
+        internWatcher.undo();
+        internWatcher.commitState("benchmark");
+        return internWatcher;
+    }
+
+    @Benchmark
+    public VersionedInternWatcher undoThenRedo() throws CommandException {
+        internWatcher.undo();
+        internWatcher.redo();
+        return internWatcher;
+    }
+}
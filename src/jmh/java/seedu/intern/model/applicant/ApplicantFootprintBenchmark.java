@@ -0,0 +1,60 @@
+package seedu.intern.model.applicant;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures the heap taken up by {@code size} applicants, reported as the {@code bytesPerApplicant} counter.
+ * Each measurement generates the applicants once, so the time reported is that of generating them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ApplicantFootprintBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    /**
+     * The heap taken up per applicant in the last measurement.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerApplicant;
+    }
+
+    @Benchmark
+    public List<Applicant> generateApplicants(Footprint footprint) {
+        long usedBefore = usedHeapAfterGc();
+        List<Applicant> applicants = SyntheticDataGenerator.generateApplicants(size);
+        long usedAfter = usedHeapAfterGc();
+        footprint.bytesPerApplicant = (usedAfter - usedBefore) / size;
+        return applicants;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // a few collections, as one may not free everything that is unreachable
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.intern.model.applicant;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.intern.benchmark.BenchmarkUtil;
+import seedu.intern.logic.commands.FilterCommand.FilterApplicantDescriptor;
+import seedu.intern.model.util.SampleDataUtil;
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures testing every applicant against the predicate of the filter command, at varying selectivities.
+ */
+@State(Scope.Thread)
+public class CombineFiltersPredicateBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    /** Approximate percentage of applicants that pass the filter. */
+    @Param({"1", "10", "50", "100"})
+    public int selectivityPercent;
+
+    private List<Applicant> applicants;
+    private Predicate<Applicant> gradeFilter;
+    private Predicate<Applicant> gradeAndSkillFilter;
+
+    /**
+     * Builds predicates that pass about {@code selectivityPercent} percent of the applicants.
+     * Generated grades are spread evenly from 0.00 to 5.00.
+     */
+    @Setup
+    public void setUp() {
+        applicants = SyntheticDataGenerator.generateApplicants(SIZE);
+
+        int minimumGradeHundredths = 500 - 5 * selectivityPercent;
+        FilterApplicantDescriptor gradeDescriptor = new FilterApplicantDescriptor();
+        gradeDescriptor.setGrade(new Grade(String.format("%d.%02d",
+                minimumGradeHundredths / 100, minimumGradeHundredths % 100)));
+        gradeFilter = new CombineFiltersPredicate(gradeDescriptor);
+
+        FilterApplicantDescriptor gradeAndSkillDescriptor = new FilterApplicantDescriptor(gradeDescriptor);
+        gradeAndSkillDescriptor.setSkills(SampleDataUtil.getSkillSet("HTML"));
+        gradeAndSkillFilter = new CombineFiltersPredicate(gradeAndSkillDescriptor);
+    }
+
+    @Benchmark
+    public long gradeFilter() {
+        return count(gradeFilter);
+    }
+
+    @Benchmark
+    public long gradeAndSkillFilter() {
+        return count(gradeAndSkillFilter);
+    }
+
+    private long count(Predicate<Applicant> predicate) {
+        return BenchmarkUtil.count(applicants, predicate);
+    }
+}
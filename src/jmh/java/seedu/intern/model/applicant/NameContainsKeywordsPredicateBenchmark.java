@@ -0,0 +1,54 @@
+package seedu.intern.model.applicant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.intern.benchmark.BenchmarkUtil;
+import seedu.intern.model.util.SampleDataUtil;
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures testing every applicant against the predicate of the find command, at varying selectivities.
+ */
+@State(Scope.Thread)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    /**
+     * Number of the six sample first names searched for, so that none, about a sixth, half or all of the applicants
+     * match. A keyword that matches no one is always searched for as well.
+     */
+    @Param({"0", "1", "3", "6"})
+    public int matchingNames;
+
+    private List<Applicant> applicants;
+    private NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Builds a predicate with {@code matchingNames} first names of the sample applicants as keywords.
+     */
+    @Setup
+    public void setUp() {
+        applicants = SyntheticDataGenerator.generateApplicants(SIZE);
+
+        List<String> keywords = new ArrayList<>();
+        keywords.add("Nobody");
+        Applicant[] samples = SampleDataUtil.getSampleApplicants();
+        for (int i = 0; i < matchingNames; i++) {
+            keywords.add(samples[i].getName().fullName.split(" ")[0]);
+        }
+        predicate = new NameContainsKeywordsPredicate(keywords);
+    }
+
+    @Benchmark
+    public long find() {
+        return BenchmarkUtil.count(applicants, predicate);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.intern.model.applicant;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures adding, finding and removing applicants in a {@code UniqueApplicantList}.
+ */
+@State(Scope.Thread)
+public class UniqueApplicantListBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private UniqueApplicantList list;
+    private Applicant first;
+    private Applicant last;
+    private Applicant absent;
+
+    /**
+     * Fills the list with {@code size} applicants, and generates one more that is not in it.
+     */
+    @Setup
+    public void setUp() {
+        List<Applicant> applicants = SyntheticDataGenerator.generateApplicants(size + 1);
+        absent = applicants.remove(size);
+        list = new UniqueApplicantList();
+        list.setApplicants(applicants);
+        first = list.asUnmodifiableObservableList().get(0);
+        last = list.asUnmodifiableObservableList().get(size - 1);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(last);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+
+    /**
+     * Adds an applicant to the end of the list, then removes it to leave the list as it was.
+     */
+    @Benchmark
+    public UniqueApplicantList addThenRemoveLast() {
+        list.add(absent);
+        list.remove(list.asUnmodifiableObservableList().get(size));
+        return list;
+    }
+
+    /**
+     * Removes the first applicant, which shifts every other applicant, then adds it back at the end.
+     */
+    @Benchmark
+    public UniqueApplicantList removeFirstThenAdd() {
+        Applicant toRemove = list.asUnmodifiableObservableList().get(0);
+        list.remove(toRemove);
+        list.add(toRemove);
+        return list;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.intern.storage;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.intern.commons.exceptions.IllegalValueException;
+import seedu.intern.commons.util.JsonUtil;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures converting an intern watcher to and from the JSON saved in the data file, without the file I/O.
+ */
+@State(Scope.Thread)
+public class JsonSerializableInternWatcherBenchmark {
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private InternWatcher internWatcher;
+    private String json;
+
+    /**
+     * Generates an intern watcher with {@code size} applicants, and its JSON.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        internWatcher = SyntheticDataGenerator.generateInternWatcher(size);
+        json = JsonUtil.toJsonString(new JsonSerializableInternWatcher(internWatcher));
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableInternWatcher(internWatcher));
+    }
+
+    @Benchmark
+    public InternWatcher deserialize() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(json, JsonSerializableInternWatcher.class).toModelType();
+    }
+
+    @Benchmark
+    public InternWatcher roundTrip() throws IOException, IllegalValueException {
+        String roundTripJson = JsonUtil.toJsonString(new JsonSerializableInternWatcher(internWatcher));
+        return JsonUtil.fromJsonString(roundTripJson, JsonSerializableInternWatcher.class).toModelType();
+    }
+}
@@ -17,6 +17,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean exitAfterStart;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +27,18 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the app should exit as soon as it has started and loaded its data, as in the training run
+     * that records the classes to put in the class data sharing archive.
+     */
+    public boolean isExitAfterStart() {
+        return exitAfterStart;
+    }
+
+    public void setExitAfterStart(boolean exitAfterStart) {
+        this.exitAfterStart = exitAfterStart;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -39,6 +52,7 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setExitAfterStart(Boolean.parseBoolean(namedParameters.get("exitAfterStart")));
 
         return appParameters;
     }
@@ -54,11 +68,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isExitAfterStart() == otherAppParameters.isExitAfterStart();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, exitAfterStart);
     }
 }
@@ -0,0 +1,156 @@
+package seedu.intern;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import seedu.intern.logic.Logic;
+import seedu.intern.logic.commands.CommandResult;
+import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes a stream of commands, one per line, without the UI.
+ * Blank lines and lines starting with {@code #} are skipped. Changes are saved at the end of the batch, and at
+ * every checkpoint of a given number of commands if there is one, rather than after every command. A command that
+ * fails is reported and the batch carries on with the next command, unless the command is {@code exit}.
+ * Exports started by the batch are finished before it returns, and an export that fails counts as a failed command.
+ */
+public class BatchRunner {
+
+    /** Exit code when every command succeeded and the changes were saved. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit code when at least one command failed, and the changes made by the other commands were saved. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** Exit code when the commands could not be read or the changes could not be saved. */
+    public static final int EXIT_ERROR = 2;
+
+    /** The number of commands a batch can undo by default. */
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+
+    public static final String MESSAGE_SUMMARY = "Executed %1$d commands, %2$d failed";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\n    %3$s";
+
+    private final Logic logic;
+    private final int checkpointInterval;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands through {@code logic}, saving every
+     * {@code checkpointInterval} commands, or only at the end if it is 0. The results of commands are printed to
+     * {@code out}, and failures to {@code err}.
+     */
+    public BatchRunner(Logic logic, int checkpointInterval, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Executes the commands read from {@code commands}, and returns the exit code of the batch.
+     */
+    public int run(BufferedReader commands) {
+        logic.setAutoSave(false);
+        int executed = 0;
+        int failed = 0;
+        int lineNumber = 0;
+        boolean isReadError = false;
+        List<BackgroundTask> backgroundTasks = new ArrayList<>();
+        try {
+            String line;
+            while ((line = commands.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith("#")) {
+                    continue;
+                }
+
+                executed++;
+                try {
+                    CommandResult result = logic.execute(commandText);
+                    out.println(result.getFeedbackToUser());
+                    int commandLineNumber = lineNumber;
+                    result.getBackgroundTask().ifPresent(task ->
+                            backgroundTasks.add(new BackgroundTask(commandLineNumber, commandText, task)));
+                    if (result.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    failed++;
+                    err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText, e.getMessage()));
+                }
+
+                if (checkpointInterval > 0 && executed % checkpointInterval == 0) {
+                    logic.save();
+                }
+            }
+        } catch (IOException e) {
+            err.println("Could not read commands: " + e.getMessage());
+            isReadError = true;
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            return EXIT_ERROR;
+        }
+
+        try {
+            logic.save();
+            logic.awaitPendingSaves();
+            for (BackgroundTask backgroundTask : backgroundTasks) {
+                if (!backgroundTask.await()) {
+                    failed++;
+                }
+            }
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            return EXIT_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_ERROR;
+        }
+
+        out.println(String.format(MESSAGE_SUMMARY, executed, failed));
+        if (isReadError) {
+            return EXIT_ERROR;
+        }
+        return failed > 0 ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+
+    /**
+     * The work that the command on a line of the batch left running in the background.
+     */
+    private class BackgroundTask {
+        private final int lineNumber;
+        private final String commandText;
+        private final CompletableFuture<String> task;
+
+        BackgroundTask(int lineNumber, String commandText, CompletableFuture<String> task) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.task = task;
+        }
+
+        /**
+         * Waits for the task to finish and reports its result, returning true if it succeeded.
+         */
+        boolean await() throws InterruptedException {
+            try {
+                out.println(task.get());
+                return true;
+            } catch (ExecutionException e) {
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText, e.getCause().getMessage()));
+                return false;
+            }
+        }
+    }
+}
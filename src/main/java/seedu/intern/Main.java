@@ -1,5 +1,7 @@
 package seedu.intern;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,15 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Run with {@code --batch} as the first argument, the commands in a file or standard input are executed without
+ * the UI instead, see {@link MainApp#runBatch(String[])}.
  */
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(MainApp.BATCH_OPTION)) {
+            System.exit(new MainApp().runBatch(Arrays.copyOfRange(args, 1, args.length)));
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -1,20 +1,31 @@
 package seedu.intern;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.intern.commons.core.Config;
 import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.core.MetricsCenter;
 import seedu.intern.commons.core.Version;
 import seedu.intern.commons.exceptions.DataConversionException;
 import seedu.intern.commons.util.ConfigUtil;
 import seedu.intern.commons.util.StringUtil;
 import seedu.intern.logic.Logic;
 import seedu.intern.logic.LogicManager;
+import seedu.intern.logic.commands.exceptions.CommandException;
 import seedu.intern.model.InternWatcher;
 import seedu.intern.model.Model;
 import seedu.intern.model.ModelManager;
@@ -23,7 +34,6 @@ import seedu.intern.model.ReadOnlyUserPrefs;
 import seedu.intern.model.UserPrefs;
 import seedu.intern.model.util.SampleDataUtil;
 import seedu.intern.storage.InternWatcherStorage;
-import seedu.intern.storage.JsonInternWatcherStorage;
 import seedu.intern.storage.JsonUserPrefsStorage;
 import seedu.intern.storage.Storage;
 import seedu.intern.storage.StorageManager;
@@ -38,6 +48,10 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 4, 0, true);
 
+    public static final String BATCH_OPTION = "--batch";
+    public static final String MESSAGE_BATCH_USAGE = "Usage: " + BATCH_OPTION
+            + " [FILE|-] [--checkpoint=COMMANDS] [--undo-limit=STATES] [--config=CONFIG_FILE] [--sample-if-missing]";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,27 +59,126 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AppParameters appParameters;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing InternWatcher ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        long phaseStart = System.nanoTime();
+        appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        phaseStart = logPhase("config", phaseStart);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InternWatcherStorage internWatcherStorage = new JsonInternWatcherStorage(userPrefs.getInternWatcherFilePath());
+        InternWatcherStorage internWatcherStorage = InternWatcherStorage.forFile(userPrefs.getInternWatcherFilePath());
         storage = new StorageManager(internWatcherStorage, userPrefsStorage);
+        phaseStart = logPhase("prefs", phaseStart);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // With fast start, the data is loaded once the window is shown, see #start(Stage)
+        model = config.isFastStart()
+                ? new ModelManager(new InternWatcher(), userPrefs)
+                : initModelManager(storage, userPrefs);
+        phaseStart = logPhase("model", phaseStart);
 
-        logic = new LogicManager(model, storage);
+        // Commands are executed on a command thread, and the applicants they list are shown on the JavaFX thread
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic);
+        logPhase("logic", phaseStart);
+    }
+
+    /**
+     * Runs the commands in a file, or in standard input, without the UI, and returns the exit code of the batch as
+     * described in {@link BatchRunner}. <br>
+     * {@code args} are the arguments following {@link #BATCH_OPTION}: the file to read the commands from, or
+     * {@code -} or nothing for standard input, the number of commands between saves, the number of states kept to
+     * undo to, the config file to use, and whether to start with the sample data if the data file is not found. <br>
+     * Unlike the app, the batch starts with no applicants if the data file is not found, and stops without running
+     * any command if the data file cannot be read, so that the commands are never applied to the wrong data.
+     */
+    public int runBatch(String[] args) {
+        Path commandsFile = null;
+        Path configFile = null;
+        int checkpointInterval = 0;
+        int undoLimit = BatchRunner.DEFAULT_UNDO_LIMIT;
+        boolean isSampleIfMissing = false;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--checkpoint=")) {
+                    checkpointInterval = Integer.parseInt(arg.substring("--checkpoint=".length()));
+                } else if (arg.startsWith("--undo-limit=")) {
+                    undoLimit = Integer.parseInt(arg.substring("--undo-limit=".length()));
+                } else if (arg.startsWith("--config=")) {
+                    configFile = Paths.get(arg.substring("--config=".length()));
+                } else if (arg.equals("--sample-if-missing")) {
+                    isSampleIfMissing = true;
+                } else if (commandsFile == null && !arg.startsWith("--")) {
+                    commandsFile = arg.equals("-") ? null : Paths.get(arg);
+                } else {
+                    throw new IllegalArgumentException(arg);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_BATCH_USAGE);
+            return BatchRunner.EXIT_ERROR;
+        }
+        if (checkpointInterval < 0 || undoLimit < 1 || undoLimit == Integer.MAX_VALUE) {
+            System.err.println(MESSAGE_BATCH_USAGE);
+            return BatchRunner.EXIT_ERROR;
+        }
+
+        config = initConfig(configFile);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        storage = new StorageManager(InternWatcherStorage.forFile(userPrefs.getInternWatcherFilePath()),
+                userPrefsStorage);
+        // Only problems are logged, so that the output of the batch is not drowned out
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        Optional<ReadOnlyInternWatcher> internWatcherOptional;
+        try {
+            internWatcherOptional = storage.readInternWatcher();
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not read data from " + storage.getInternWatcherFilePath() + ": "
+                    + e.getMessage());
+            LogsCenter.flush();
+            return BatchRunner.EXIT_ERROR;
+        }
+        ReadOnlyInternWatcher initialData = internWatcherOptional.orElseGet(isSampleIfMissing
+                ? SampleDataUtil::getSampleInternWatcher
+                : InternWatcher::new);
+        // Keeping every state of a long batch would keep a copy of the data for each command
+        model = new ModelManager(initialData, userPrefs, undoLimit + 1);
+        logic = new LogicManager(model, storage);
+
+        BatchRunner runner = new BatchRunner(logic, checkpointInterval, System.out, System.err);
+        try (BufferedReader commands = commandsFile == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(commandsFile)) {
+            return runner.run(commands);
+        } catch (IOException e) {
+            System.err.println("Could not read commands from " + commandsFile + ": " + e.getMessage());
+            return BatchRunner.EXIT_ERROR;
+        } finally {
+            LogsCenter.flush();
+        }
+    }
+
+    /**
+     * Records and logs the time taken by the startup phase {@code phase}, which started at {@code startNanos}.
+     * Returns the time the phase ended, which is when the next phase starts.
+     */
+    private static long logPhase(String phase, long startNanos) {
+        MetricsCenter.recordTime("startup." + phase, startNanos);
+        long endNanos = System.nanoTime();
+        logger.info(() -> String.format("Startup phase %s took %.1f ms", phase, (endNanos - startNanos) / 1e6));
+        return endNanos;
     }
 
     /**
@@ -74,6 +187,15 @@ public class MainApp extends Application {
      * or an empty intern book will be used instead if errors occur when reading {@code storage}'s intern book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(readInitialData(storage), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s intern book, as an {@code InternWatcher}. <br>
+     * The data from the sample intern book will be used instead if {@code storage}'s intern book is not found,
+     * or an empty intern book will be used instead if errors occur when reading {@code storage}'s intern book.
+     */
+    private InternWatcher readInitialData(Storage storage) {
         Optional<ReadOnlyInternWatcher> internWatcherOptional;
         ReadOnlyInternWatcher initialData;
         try {
@@ -90,11 +212,42 @@ public class MainApp extends Application {
             initialData = new InternWatcher();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        // An InternWatcher can be copied into the model without checking its applicants again
+        return initialData instanceof InternWatcher ? (InternWatcher) initialData : new InternWatcher(initialData);
+    }
+
+    /**
+     * Loads the data from {@code storage}'s intern book on a background thread, then replaces the model's data
+     * with it on the command thread. Commands are disabled until the data is loaded.
+     */
+    private void loadInBackground() {
+        ui.setLoading(true);
+        Thread loader = new Thread(() -> {
+            long loadStart = System.nanoTime();
+            InternWatcher initialData = readInitialData(storage);
+            logPhase("load", loadStart);
+            logic.loadInternWatcher(initialData).thenRun(() -> Platform.runLater(() -> {
+                ui.setLoading(false);
+                exitIfRequested();
+            }));
+        }, "InternWatcher-load");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
+        if (config.getMetricsFilePath() == null) {
+            return;
+        }
+
+        long dumpInterval = config.getMetricsDumpIntervalInSeconds();
+        if (dumpInterval <= 0) {
+            logger.warning("Metrics dump interval is not positive (" + dumpInterval + " seconds). "
+                    + "Metrics will not be written to " + config.getMetricsFilePath());
+            return;
+        }
+        MetricsCenter.startPeriodicDump(config.getMetricsFilePath(), dumpInterval);
     }
 
     /**
@@ -168,16 +321,76 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting InternWatcher " + MainApp.VERSION);
+        long uiStart = System.nanoTime();
         ui.start(primaryStage);
+        logPhase("ui", uiStart);
+        // Runs once the window has been shown
+        Platform.runLater(MainApp::logFirstFrame);
+        if (config.isFastStart()) {
+            loadInBackground();
+        } else {
+            exitIfRequested();
+        }
+    }
+
+    /**
+     * Logs the time taken from the launch of the JVM to showing the first frame of the window.
+     */
+    private static void logFirstFrame() {
+        ProcessHandle.current().info().startInstant().ifPresent(launch -> {
+            long millis = Duration.between(launch, Instant.now()).toMillis();
+            MetricsCenter.record("startup.firstFrame.ms", millis);
+            logger.info("First frame shown " + millis + " ms after launch");
+        });
+    }
+
+    /**
+     * Exits the app if it was asked to exit as soon as it has started.
+     */
+    private void exitIfRequested() {
+        if (appParameters.isExitAfterStart()) {
+            logger.info("Exiting after start as requested");
+            Platform.runLater(Platform::exit);
+        }
+    }
+
+    /**
+     * Saves the changes to the intern book that have not been saved yet, waits for the save to finish, and logs
+     * whether it succeeded.
+     */
+    private void saveData() throws InterruptedException {
+        try {
+            logic.save();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            return;
+        }
+        logic.awaitPendingSaves();
+        if (logic.hasUnsavedChanges()) {
+            logger.severe("Failed to save data, the latest changes are lost");
+        } else {
+            logger.info("Data saved");
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping InternWatcher ] =============================");
+        try {
+            // the model is no longer changed once the command thread has stopped
+            logic.shutdown();
+            saveData();
+            logic.awaitBackgroundTasks();
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while saving data " + StringUtil.getDetails(e));
+            Thread.currentThread().interrupt();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        MetricsCenter.stopPeriodicDump();
+        LogsCenter.flush();
     }
 }
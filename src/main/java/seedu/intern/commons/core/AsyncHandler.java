@@ -0,0 +1,122 @@
+package seedu.intern.commons.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to a bounded queue, from which a background thread passes them on to
+ * the wrapped handlers. Logging then costs the caller a queue insertion instead of formatting and writing the
+ * record to the console and log file.
+ * If the queue is full, records are dropped rather than holding up the caller, and a warning with the number of
+ * records dropped is logged once there is space again.
+ */
+class AsyncHandler extends Handler {
+
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final BlockingQueue<LogRecord> queue;
+    private final List<Handler> targets;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Object writtenLock = new Object();
+    private long written;
+    private long droppedReported;
+    private final Thread writer;
+
+    /**
+     * Creates a handler that queues up to {@code capacity} records for {@code targets}.
+     */
+    AsyncHandler(int capacity, List<Handler> targets) {
+        queue = new ArrayBlockingQueue<>(capacity);
+        this.targets = new ArrayList<>(targets);
+        writer = new Thread(this::writeRecords, "InternWatcher-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // The source is inferred from the stack, so it must be found on the caller's thread.
+        record.getSourceClassName();
+        if (queue.offer(record)) {
+            accepted.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until the records queued so far have been passed on, then flushes the wrapped handlers.
+     */
+    @Override
+    public void flush() {
+        long target = accepted.get();
+        synchronized (writtenLock) {
+            while (written < target && writer.isAlive()) {
+                try {
+                    writtenLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    @Override
+    public void close() {
+        flush();
+        writer.interrupt();
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            reportDropped();
+            for (LogRecord record : batch) {
+                targets.forEach(target -> target.publish(record));
+            }
+            synchronized (writtenLock) {
+                written += batch.size();
+                writtenLock.notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    private void reportDropped() {
+        long droppedSoFar = dropped.get();
+        if (droppedSoFar > droppedReported) {
+            LogRecord warning = new LogRecord(Level.WARNING,
+                    (droppedSoFar - droppedReported) + " log records were dropped as logging fell behind");
+            warning.setLoggerName(AsyncHandler.class.getSimpleName());
+            warning.setSourceClassName(AsyncHandler.class.getName());
+            targets.forEach(target -> target.publish(warning));
+            droppedReported = droppedSoFar;
+        }
+    }
+}
@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = null;
+    private long metricsDumpIntervalInSeconds = 60;
+    private boolean fastStart = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,40 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the file that metrics are periodically written to, or null if they are not written to a file.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns how often metrics are written to the metrics file. Metrics are not written to the file if it is not
+     * positive.
+     */
+    public long getMetricsDumpIntervalInSeconds() {
+        return metricsDumpIntervalInSeconds;
+    }
+
+    public void setMetricsDumpIntervalInSeconds(long metricsDumpIntervalInSeconds) {
+        this.metricsDumpIntervalInSeconds = metricsDumpIntervalInSeconds;
+    }
+
+    /**
+     * Returns true if the main window is shown before the applicants are loaded, which then load in the background.
+     */
+    public boolean isFastStart() {
+        return fastStart;
+    }
+
+    public void setFastStart(boolean fastStart) {
+        this.fastStart = fastStart;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +81,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpIntervalInSeconds == o.metricsDumpIntervalInSeconds
+                && fastStart == o.fastStart;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, metricsDumpIntervalInSeconds, fastStart);
     }
 
     @Override
@@ -57,6 +97,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        if (metricsFilePath != null) {
+            sb.append("\nMetrics file Location : " + metricsFilePath);
+        }
         return sb.toString();
     }
 
@@ -0,0 +1,98 @@
+package seedu.intern.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe histogram of non-negative {@code long} values with log-linear buckets, in the style of HDR
+ * histograms.
+ * Each power-of-two range is split into {@code 2^SUB_BUCKET_BITS} equal buckets, so recorded values and the
+ * percentiles derived from them are accurate to within 1 part in {@code 2^SUB_BUCKET_BITS} (about 3%), using a
+ * fixed amount of memory however many values are recorded.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records {@code value}, with negative values recorded as 0.
+     */
+    public void record(long value) {
+        long nonNegativeValue = Math.max(value, 0);
+        buckets.incrementAndGet(bucketOf(nonNegativeValue));
+        count.incrementAndGet();
+        sum.addAndGet(nonNegativeValue);
+        max.accumulateAndGet(nonNegativeValue, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if there are none.
+     */
+    public double getMean() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : (double) sum.get() / currentCount;
+    }
+
+    /**
+     * Returns an upper bound of the smallest recorded value that is at least {@code percentile} percent of the
+     * recorded values, or 0 if there are none.
+     *
+     * @param percentile between 0 and 100.
+     */
+    public long getPercentile(double percentile) {
+        long currentCount = count.get();
+        if (currentCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * currentCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Returns the bucket of {@code value}.
+     * Values below {@code SUB_BUCKET_COUNT} have a bucket each; larger values are bucketed by their highest
+     * {@code SUB_BUCKET_BITS + 1} bits.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Returns the largest value in {@code bucket}.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.intern.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,39 +17,53 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread, so logging does not wait for the console or the log file. Use
+ *   {@link #flush()} to wait until the messages logged so far have been written.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "internwatcher.log";
+    private static final int LOG_QUEUE_CAPACITY = 8192;
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncHandler asyncHandler;
+    private static final List<Handler> targetHandlers = new ArrayList<>();
+    // Held so that the loggers, and the level set on them, are not garbage collected
+    private static final List<Logger> loggers = new ArrayList<>();
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Messages below the level are no longer logged, by the loggers created before or after this call, so that
+     * messages below the level are not even created.
      */
     public static void init(Config config) {
-        currentLogLevel = config.getLogLevel();
+        synchronized (LogsCenter.class) {
+            currentLogLevel = config.getLogLevel();
+            loggers.forEach(existingLogger -> existingLogger.setLevel(currentLogLevel));
+            targetHandlers.forEach(handler -> handler.setLevel(currentLogLevel));
+            if (asyncHandler != null) {
+                asyncHandler.setLevel(currentLogLevel);
+            }
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
      */
-    public static Logger getLogger(String name) {
+    public static synchronized Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
+        if (!loggers.contains(logger)) {
+            loggers.add(logger);
+        }
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
-        return Logger.getLogger(name);
+        return logger;
     }
 
     /**
@@ -60,14 +77,12 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Waits until the messages logged so far have been written to the console and the log file.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    public static synchronized void flush() {
+        if (asyncHandler != null) {
+            asyncHandler.flush();
         }
-        logger.addHandler(consoleHandler);
     }
 
     /**
@@ -79,18 +94,21 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, which writes to the console and the log file, if it is null.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static synchronized void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            targetHandlers.add(createConsoleHandler());
+            try {
+                targetHandlers.add(createFileHandler());
+            } catch (IOException e) {
+                logger.warning("Error adding file handler for logger.");
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncHandler = new AsyncHandler(LOG_QUEUE_CAPACITY, targetHandlers);
+            asyncHandler.setLevel(currentLogLevel);
         }
+        logger.addHandler(asyncHandler);
     }
 
     /**
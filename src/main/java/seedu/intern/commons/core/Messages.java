@@ -11,5 +11,6 @@ public class Messages {
             "The applicant selection provided is invalid";
     public static final String MESSAGE_APPLICANTS_LISTED_OVERVIEW = "%1$d applicants listed!";
     public static final String MESSAGE_UNEXPECTED_FLAG = "Unknown flag provided";
+    public static final String MESSAGE_COMMAND_CANCELLED = "The command was cancelled";
 
 }
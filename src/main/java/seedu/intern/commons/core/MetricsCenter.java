@@ -0,0 +1,144 @@
+package seedu.intern.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.intern.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import seedu.intern.commons.util.FileUtil;
+
+/**
+ * Records counters, timers and value histograms for the app, and reports them.
+ * Metrics are created on first use and identified by name, e.g. "execute.add" for the time taken to execute add
+ * commands. All methods are safe to call from any thread, and recording takes constant time.
+ */
+public class MetricsCenter {
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Histogram> timers = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService dumpExecutor;
+
+    /**
+     * Adds 1 to the counter {@code name}.
+     */
+    public static void increment(String name) {
+        counters.computeIfAbsent(name, unused -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a value of {@link System#nanoTime()}, in the timer
+     * {@code name}.
+     */
+    public static void recordTime(String name, long startNanos) {
+        timers.computeIfAbsent(name, unused -> new Histogram()).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records {@code value} in the histogram {@code name}.
+     */
+    public static void record(String name, long value) {
+        histograms.computeIfAbsent(name, unused -> new Histogram()).record(value);
+    }
+
+    /**
+     * Returns the value of the counter {@code name}, which is 0 if it has not been incremented.
+     */
+    public static long getCount(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns the timer {@code name}, which records nanoseconds, or an empty histogram if it has not been used.
+     */
+    public static Histogram getTimer(String name) {
+        return timers.getOrDefault(name, new Histogram());
+    }
+
+    /**
+     * Returns the histogram {@code name}, or an empty histogram if it has not been used.
+     */
+    public static Histogram getHistogram(String name) {
+        return histograms.getOrDefault(name, new Histogram());
+    }
+
+    /**
+     * Removes all metrics.
+     */
+    public static void reset() {
+        counters.clear();
+        timers.clear();
+        histograms.clear();
+    }
+
+    /**
+     * Returns a report of all metrics in alphabetical order, with the count, mean, median, 90th and 99th
+     * percentiles and maximum of each timer and histogram. Times are reported in milliseconds.
+     */
+    public static String report() {
+        final StringBuilder builder = new StringBuilder();
+        new TreeMap<>(counters).forEach((name, counter) ->
+                builder.append(name).append(": ").append(counter.sum()).append('\n'));
+        new TreeMap<>(timers).forEach((name, timer) ->
+                appendHistogram(builder, name + " (ms)", timer, NANOS_PER_MILLI));
+        new TreeMap<>(histograms).forEach((name, histogram) ->
+                appendHistogram(builder, name, histogram, 1));
+        return builder.length() == 0 ? "No metrics recorded yet" : builder.toString().trim();
+    }
+
+    private static void appendHistogram(StringBuilder builder, String name, Histogram histogram, double unit) {
+        builder.append(String.format("%s: count=%d mean=%.2f p50=%.2f p90=%.2f p99=%.2f max=%.2f%n", name,
+                histogram.getCount(), histogram.getMean() / unit, histogram.getPercentile(50) / unit,
+                histogram.getPercentile(90) / unit, histogram.getPercentile(99) / unit, histogram.getMax() / unit));
+    }
+
+    /**
+     * Writes the report of all metrics to {@code file} every {@code periodInSeconds} seconds, in place of the
+     * previous report, until {@link #stopPeriodicDump()} is called.
+     *
+     * @throws IllegalArgumentException If {@code periodInSeconds} is not positive.
+     */
+    public static synchronized void startPeriodicDump(Path file, long periodInSeconds) {
+        requireNonNull(file);
+        checkArgument(periodInSeconds > 0, "The period of the metrics dump must be positive: " + periodInSeconds);
+        stopPeriodicDump();
+        logger.info("Writing metrics to " + file + " every " + periodInSeconds + " seconds");
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "InternWatcher-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(() -> dump(file), periodInSeconds, periodInSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops writing the report of all metrics periodically, if it is being written.
+     */
+    public static synchronized void stopPeriodicDump() {
+        if (dumpExecutor != null) {
+            dumpExecutor.shutdown();
+            dumpExecutor = null;
+        }
+    }
+
+    private static void dump(Path file) {
+        try {
+            FileUtil.createIfMissing(file);
+            FileUtil.writeToFile(file, report() + System.lineSeparator());
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics to " + file + ": " + e);
+        }
+    }
+}
@@ -16,8 +16,11 @@ public class ConfigUtil {
         return JsonUtil.readJsonFile(configFilePath, Config.class);
     }
 
+    /**
+     * Saves {@code config} to {@code configFilePath}, leaving the file untouched if it is unchanged.
+     */
     public static void saveConfig(Config config, Path configFilePath) throws IOException {
-        JsonUtil.saveJsonFile(config, configFilePath);
+        JsonUtil.saveJsonFileIfChanged(config, configFilePath);
     }
 
 }
@@ -0,0 +1,89 @@
+package seedu.intern.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps one shared instance of each distinct value of an immutable type, so that equal values held by many objects
+ * take up the memory of one. The shared instances are only weakly held, so values no longer used anywhere else are
+ * still garbage collected.
+ *
+ * Interning takes no lock, so many threads, such as those parsing an import in parallel, can intern at once.
+ *
+ * @param <T> An immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<WeakKey<T>, WeakKey<T>> instances = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collectedInstances = new ReferenceQueue<>();
+
+    /**
+     * Returns the shared instance equal to {@code value}, which is {@code value} itself if there was none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        removeCollectedInstances();
+
+        WeakKey<T> key = new WeakKey<>(value, collectedInstances);
+        while (true) {
+            WeakKey<T> existing = instances.putIfAbsent(key, key);
+            if (existing == null) {
+                return value;
+            }
+            T instance = existing.get();
+            if (instance != null) {
+                return instance;
+            }
+            // collected since it was matched, so it can be replaced
+            instances.remove(existing, existing);
+        }
+    }
+
+    /**
+     * Returns the number of shared instances that have not been garbage collected.
+     */
+    public int size() {
+        removeCollectedInstances();
+        return instances.size();
+    }
+
+    private void removeCollectedInstances() {
+        Object collected;
+        while ((collected = collectedInstances.poll()) != null) {
+            instances.remove(collected);
+        }
+    }
+
+    /**
+     * A weak reference to a shared instance, which is equal to the references to equal values.
+     */
+    private static class WeakKey<T> extends WeakReference<T> {
+        private final int hashCode;
+
+        WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            hashCode = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof WeakKey)) {
+                return false;
+            }
+            T value = get();
+            return value != null && value.equals(((WeakKey<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
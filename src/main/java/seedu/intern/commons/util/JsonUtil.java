@@ -3,6 +3,8 @@ package seedu.intern.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -29,6 +35,7 @@ import seedu.intern.commons.exceptions.DataConversionException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final String TEMPORARY_EXTENSION = ".part";
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -39,8 +46,30 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Writes the JSON of {@code objectToSerialize} to {@code jsonFile} as it is generated, without holding all of it
+     * in memory. The JSON is written to a temporary file next to {@code jsonFile}, which then replaces it, so that
+     * a failed or interrupted write leaves {@code jsonFile} as it was.
+     */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        replaceFile(jsonFile, writer -> objectMapper.writerWithDefaultPrettyPrinter().writeValue(writer,
+                objectToSerialize));
+    }
+
+    /**
+     * Writes the contents written by {@code contents} to a temporary file next to {@code file}, which then replaces
+     * {@code file}, so that a failed or interrupted write leaves {@code file} as it was.
+     */
+    private static void replaceFile(Path file, FileContents contents) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_EXTENSION);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                contents.writeTo(writer);
+            }
+            FileUtil.moveReplacing(temporaryFile, file);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -90,6 +119,64 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, unless the file already holds exactly that Json.
+     * Creates a new file if it doesn't exist. The file is replaced as a whole, as in {@link #saveJsonFile}.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @return true if the file was written.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> boolean saveJsonFileIfChanged(T jsonFile, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        String json = toJsonString(jsonFile);
+        if (FileUtil.isFileExists(filePath) && FileUtil.readFromFile(filePath).equals(json)) {
+            return false;
+        }
+        replaceFile(filePath, writer -> writer.write(json));
+        return true;
+    }
+
+    /**
+     * Writes each of {@code objects} to {@code writer} as compact JSON on a line of its own, in the JSON Lines
+     * format. The JSON is written as it is generated, and {@code writer} is flushed but not closed.
+     */
+    public static <T> void writeJsonLines(Writer writer, Iterable<T> objects) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(objects);
+
+        // Flushing after every line would write each line to the file separately
+        ObjectWriter lineWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        boolean isEmpty = true;
+        for (T object : objects) {
+            lineWriter.writeValue(generator, object);
+            isEmpty = false;
+        }
+        if (!isEmpty) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+
+    /**
+     * Returns the tree of JSON nodes in the given string representation of JSON data, so that its shape can be
+     * inspected before it is converted with {@link #fromJsonNode(JsonNode, Class)}.
+     */
+    public static JsonNode readJsonTree(String json) throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * Converts the given tree of JSON nodes to an instance of a class, as in {@link #fromJsonString(String, Class)}.
+     */
+    public static <T> T fromJsonNode(JsonNode node, Class<T> instanceClass) throws IOException {
+        return objectMapper.treeToValue(node, instanceClass);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +197,14 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    private interface FileContents {
+        void writeTo(Writer writer) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,19 @@
+package seedu.intern.logic;
+
+/**
+ * Listens to a task that a command leaves running in the background, such as an export, once the command has
+ * returned. The methods are called on the thread running the task, or on the thread that started listening if the
+ * task had already finished, not on the JavaFX application thread.
+ */
+public interface BackgroundTaskListener {
+
+    /**
+     * Called when a background task has finished successfully, with a message describing what it did.
+     */
+    void taskSucceeded(String message);
+
+    /**
+     * Called when a background task fails, with a message describing the failure.
+     */
+    void taskFailed(String errorMessage);
+}
@@ -1,21 +1,24 @@
 package seedu.intern.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.intern.commons.core.GuiSettings;
 import seedu.intern.logic.commands.CommandResult;
 import seedu.intern.logic.commands.exceptions.CommandException;
 import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.model.ApplicantStatistics;
 import seedu.intern.model.ReadOnlyInternWatcher;
 import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicantCounters;
 
 /**
  * API of the Logic component
  */
 public interface Logic {
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the calling thread and returns the result.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -23,6 +26,31 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command after the commands submitted before it, on the thread that executes commands if there
+     * is one. The returned future completes with the result, or exceptionally with the {@code CommandException} or
+     * {@code ParseException} the command failed with.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText);
+
+    /**
+     * Cancels the command being executed, if it can be cancelled, and the tasks that commands left running in the
+     * background. A cancelled command fails without changing the applicants.
+     */
+    void cancel();
+
+    /**
+     * Cancels the command being executed, if any, drops the commands that have not started, and waits for the thread
+     * that executes commands to stop. No command can be executed afterwards.
+     */
+    void shutdown() throws InterruptedException;
+
+    /**
+     * Replaces the intern watcher with {@code internWatcher}, as loaded from the data file, after the commands
+     * submitted before. The returned future completes once it has been replaced.
+     */
+    CompletableFuture<Void> loadInternWatcher(ReadOnlyInternWatcher internWatcher);
+
     /**
      * Returns the InternWatcher.
      *
@@ -39,6 +67,54 @@ public interface Logic {
     /** Returns an unmodifiable view of the toggle setting*/
     boolean getIsToggle();
 
+    /** Returns the statistics of the applicants to display */
+    ApplicantStatistics getApplicantStatistics();
+
+    /** Returns the live counts of all the applicants */
+    ApplicantCounters getApplicantCounters();
+
+    /**
+     * Sets the listener to be notified of the saves of the intern watcher made in the background.
+     */
+    void setSaveListener(SaveListener listener);
+
+    /**
+     * Waits until the saves of the intern watcher that are in progress or pending have finished.
+     */
+    void awaitPendingSaves() throws InterruptedException;
+
+    /**
+     * Notifies {@code listener} once {@code task}, the background task of a command's result, has finished, or
+     * straight away if it already has.
+     *
+     * @see seedu.intern.logic.commands.CommandResult#getBackgroundTask()
+     */
+    void notifyWhenFinished(CompletableFuture<String> task, BackgroundTaskListener listener);
+
+    /**
+     * Waits until the tasks that commands left running in the background have finished, and the listeners of those
+     * tasks have been notified.
+     */
+    void awaitBackgroundTasks() throws InterruptedException;
+
+    /**
+     * Sets whether the intern watcher is saved after every command. If not, changes are only saved by
+     * {@link #save()}, which makes long sequences of commands faster.
+     */
+    void setAutoSave(boolean isAutoSave);
+
+    /**
+     * Saves the intern watcher if commands have changed it since it was last saved.
+     *
+     * @throws CommandException If an error occurs while saving.
+     */
+    void save() throws CommandException;
+
+    /**
+     * Returns true if commands have changed the intern watcher since it was last saved, or if its last save failed.
+     */
+    boolean hasUnsavedChanges();
+
     /**
      * Returns the user prefs' intern book file path.
      */
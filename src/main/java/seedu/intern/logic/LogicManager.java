@@ -1,21 +1,44 @@
 package seedu.intern.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.intern.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.intern.commons.core.GuiSettings;
 import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.core.Messages;
+import seedu.intern.commons.core.MetricsCenter;
 import seedu.intern.logic.commands.Command;
 import seedu.intern.logic.commands.CommandResult;
 import seedu.intern.logic.commands.exceptions.CommandException;
 import seedu.intern.logic.parser.InternWatcherParser;
 import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.model.ApplicantStatistics;
+import seedu.intern.model.InternWatcher;
 import seedu.intern.model.Model;
 import seedu.intern.model.ReadOnlyInternWatcher;
 import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicantCounters;
 import seedu.intern.storage.Storage;
 
 /**
@@ -25,39 +48,372 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
     public static final String FILE_ACCESS_DENIED_ERROR_MESSAGE = "File access denied, ensure save "
             + "file is not set to read only.";
+    // How long shutting down waits for the command being executed to stop
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final InternWatcherParser internWatcherParser;
 
+    // Runs the background saves one at a time, or is null if saves are made as part of each command
+    private final ExecutorService saveExecutor;
+    // The latest snapshot of the intern watcher that has not been saved yet, if any
+    private final AtomicReference<ReadOnlyInternWatcher> pendingSave = new AtomicReference<>();
+    private volatile SaveListener saveListener = SaveListener.NONE;
+    // The background tasks of commands, and the notifications of their listeners, that have not finished, mapped to
+    // the task itself
+    private final Map<CompletableFuture<?>, CompletableFuture<String>> backgroundTasks = new ConcurrentHashMap<>();
+    private boolean isAutoSave = true;
+    // Set whenever the applicants change, so that commands that only read them are not followed by a save
+    private volatile boolean hasUnsavedChanges = false;
+
+    // Runs the commands one at a time, or is null if commands are executed on the thread submitting them
+    private final ExecutorService commandExecutor;
+    private volatile Thread commandThread;
+    private volatile boolean isExecutingCommand = false;
+    // Runs the updates of the applicants shown, or is null if the model's list of applicants is shown directly
+    private final Executor resultExecutor;
+    // The applicants listed as last shown through the result executor, and an unmodifiable view of them
+    private final ObservableList<Applicant> publishedApplicants;
+    private final ObservableList<Applicant> unmodifiablePublishedApplicants;
+    // The latest applicants listed that have not been shown yet, if any
+    private final AtomicReference<List<Applicant>> pendingPublish = new AtomicReference<>();
+    // Set whenever the applicants listed change, and only used on the thread executing commands
+    private boolean isListingChanged = false;
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that saves the intern
+     * watcher as part of each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isSavingInBackground} is true, commands only take a snapshot of the intern watcher, which is saved
+     * on a background thread so that slow writes do not hold up the caller. Snapshots taken while an earlier one
+     * is being written are coalesced, so only the latest of them is written.
+     */
+    public LogicManager(Model model, Storage storage, boolean isSavingInBackground) {
+        this(model, storage, isSavingInBackground, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} for the UI, which saves
+     * the intern watcher in the background and executes commands one at a time on a command thread, so that long
+     * commands do not hold up the UI. The model is then only changed on the command thread, and the applicants it
+     * lists are shown in the list returned by {@link #getFilteredApplicantList()} through {@code resultExecutor},
+     * such as {@code Platform::runLater}. The applicants listed after a burst of commands are shown in one update.
+     */
+    public LogicManager(Model model, Storage storage, Executor resultExecutor) {
+        this(model, storage, true, requireNonNull(resultExecutor));
+    }
+
+    private LogicManager(Model model, Storage storage, boolean isSavingInBackground, Executor resultExecutor) {
         this.model = model;
         this.storage = storage;
         internWatcherParser = new InternWatcherParser();
+        model.getInternWatcher().getApplicantList().addListener((ListChangeListener<Applicant>) change ->
+                hasUnsavedChanges = true);
+
+        saveExecutor = isSavingInBackground ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "InternWatcher-save");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+
+        this.resultExecutor = resultExecutor;
+        publishedApplicants = FXCollections.observableArrayList(model.getFilteredApplicantList());
+        unmodifiablePublishedApplicants = FXCollections.unmodifiableObservableList(publishedApplicants);
+        commandExecutor = resultExecutor == null ? null : Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "InternWatcher-command");
+            thread.setDaemon(true);
+            commandThread = thread;
+            return thread;
+        });
+        if (resultExecutor != null) {
+            model.getFilteredApplicantList().addListener((ListChangeListener<Applicant>) change ->
+                    isListingChanged = true);
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
+        MetricsCenter.increment("commands");
+        long parseStart = System.nanoTime();
         CommandResult commandResult;
-        Command command = internWatcherParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        Command command;
+        try {
+            command = internWatcherParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            MetricsCenter.increment("commands.invalid");
+            throw pe;
+        }
+        MetricsCenter.recordTime("parse", parseStart);
 
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        long executeStart = System.nanoTime();
         try {
-            storage.saveInternWatcher(model.getInternWatcher());
+            commandResult = command.execute(model);
+        } catch (CommandException ce) {
+            MetricsCenter.increment("commands.failed." + commandWord);
+            throw ce;
+        }
+        MetricsCenter.recordTime("execute." + commandWord, executeStart);
+        commandResult.getBackgroundTask().ifPresent(task -> trackBackgroundTask(task, task));
+
+        if (isAutoSave) {
+            save();
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeInBackground(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        if (commandExecutor == null) {
+            completeWithExecution(result, commandText);
+            return result;
+        }
+
+        commandExecutor.execute(() -> {
+            // a cancellation that came after the previous command had finished is not meant for this one
+            Thread.interrupted();
+            isExecutingCommand = true;
+            completeWithExecution(result, commandText);
+        });
+        return result;
+    }
+
+    /**
+     * Executes {@code commandText}, then completes {@code result} with the result once the applicants it lists are
+     * on their way to be shown.
+     */
+    private void completeWithExecution(CompletableFuture<CommandResult> result, String commandText) {
+        CommandResult commandResult = null;
+        Exception error = null;
+        try {
+            commandResult = execute(commandText);
+        } catch (CommandException | ParseException | RuntimeException e) {
+            error = e;
+        } finally {
+            isExecutingCommand = false;
+            // clears a cancellation that came after the command had finished
+            Thread.interrupted();
+        }
+
+        // published first, so that the list is up to date when the result is shown through the result executor
+        publishListedApplicants();
+        if (error == null) {
+            result.complete(commandResult);
+        } else {
+            result.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Shows the applicants now listed by the model through the result executor, if they have changed.
+     */
+    private void publishListedApplicants() {
+        if (resultExecutor == null || !isListingChanged) {
+            return;
+        }
+        isListingChanged = false;
+        if (pendingPublish.getAndSet(new ArrayList<>(model.getFilteredApplicantList())) == null) {
+            resultExecutor.execute(() -> {
+                List<Applicant> applicants = pendingPublish.getAndSet(null);
+                if (applicants != null) {
+                    publishedApplicants.setAll(applicants);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void cancel() {
+        Thread thread = commandThread;
+        if (isExecutingCommand && thread != null) {
+            logger.info("Cancelling the command being executed");
+            thread.interrupt();
+        }
+        backgroundTasks.values().forEach(task -> task.cancel(true));
+    }
+
+    @Override
+    public void shutdown() throws InterruptedException {
+        if (commandExecutor == null) {
+            return;
+        }
+
+        // interrupts the command being executed, and drops the commands that have not started
+        commandExecutor.shutdownNow();
+        if (!commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warning("The command being executed did not stop within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> loadInternWatcher(ReadOnlyInternWatcher internWatcher) {
+        requireNonNull(internWatcher);
+        CompletableFuture<Void> loaded = new CompletableFuture<>();
+        Runnable load = () -> {
+            try {
+                model.loadInternWatcher(internWatcher);
+                // the data is the same as that in the data file
+                hasUnsavedChanges = false;
+                publishListedApplicants();
+                loaded.complete(null);
+            } catch (RuntimeException e) {
+                loaded.completeExceptionally(e);
+            }
+        };
+
+        if (commandExecutor == null) {
+            load.run();
+        } else {
+            commandExecutor.execute(load);
+        }
+        return loaded;
+    }
+
+    /**
+     * Notifies the background task listener when {@code task} finishes, and keeps track of it until then.
+     */
+    private void trackBackgroundTask(CompletableFuture<?> awaited, CompletableFuture<String> task) {
+        backgroundTasks.put(awaited, task);
+        awaited.whenComplete((unused, error) -> backgroundTasks.remove(awaited));
+    }
+
+    @Override
+    public void notifyWhenFinished(CompletableFuture<String> task, BackgroundTaskListener listener) {
+        requireAllNonNull(task, listener);
+        CompletableFuture<Void> notification = task.handle((message, error) -> {
+            if (error == null) {
+                listener.taskSucceeded(message);
+            } else if (error instanceof CancellationException) {
+                logger.info("A background task was cancelled");
+                listener.taskFailed(Messages.MESSAGE_COMMAND_CANCELLED);
+            } else {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.warning("A background task failed: " + cause.getMessage());
+                listener.taskFailed(cause.getMessage());
+            }
+            return null;
+        });
+        trackBackgroundTask(notification, task);
+    }
+
+    @Override
+    public void awaitBackgroundTasks() throws InterruptedException {
+        for (CompletableFuture<?> task : List.copyOf(backgroundTasks.keySet())) {
+            try {
+                task.get();
+            } catch (CancellationException | ExecutionException e) {
+                // reported to the listeners of the task
+            }
+        }
+    }
+
+    @Override
+    public void setAutoSave(boolean isAutoSave) {
+        this.isAutoSave = isAutoSave;
+    }
+
+    @Override
+    public void save() throws CommandException {
+        if (!hasUnsavedChanges) {
+            return;
+        }
+
+        if (saveExecutor == null) {
+            saveInternWatcher(model.getInternWatcher());
+            hasUnsavedChanges = false;
+        } else {
+            // cleared before the snapshot is taken, so that changes made after it are saved again, and set again
+            // if the snapshot cannot be written
+            hasUnsavedChanges = false;
+            scheduleSave(new InternWatcher(model.getInternWatcher()));
+        }
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    private void saveInternWatcher(ReadOnlyInternWatcher internWatcher) throws CommandException {
+        long saveStart = System.nanoTime();
+        try {
+            storage.saveInternWatcher(internWatcher);
+            MetricsCenter.recordTime("save", saveStart);
         } catch (AccessDeniedException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe.getFile() + ". "
                     + FILE_ACCESS_DENIED_ERROR_MESSAGE, ioe);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Schedules {@code snapshot} to be saved in the background, in place of any snapshot not yet being saved.
+     */
+    private void scheduleSave(ReadOnlyInternWatcher snapshot) {
+        if (pendingSave.getAndSet(snapshot) == null) {
+            saveExecutor.execute(this::savePendingSnapshots);
+        }
+    }
+
+    private void savePendingSnapshots() {
+        ReadOnlyInternWatcher snapshot = pendingSave.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        saveListener.saveStarted();
+        String errorMessage = null;
+        while (snapshot != null) {
+            try {
+                saveInternWatcher(snapshot);
+                errorMessage = null;
+            } catch (CommandException ce) {
+                logger.warning("Failed to save in the background: " + ce.getMessage());
+                errorMessage = ce.getMessage();
+            }
+            snapshot = pendingSave.getAndSet(null);
+        }
+
+        if (errorMessage == null) {
+            saveListener.saveSucceeded();
+        } else {
+            // the latest snapshot was not written, so the changes in it are still unsaved
+            hasUnsavedChanges = true;
+            saveListener.saveFailed(errorMessage);
+        }
+    }
+
+    @Override
+    public void setSaveListener(SaveListener listener) {
+        requireNonNull(listener);
+        saveListener = listener;
+    }
+
+    @Override
+    public void awaitPendingSaves() throws InterruptedException {
+        if (saveExecutor == null) {
+            return;
+        }
+
+        try {
+            // saves run one at a time in order, so every earlier save has finished once this no-op has run
+            saveExecutor.submit(() -> {}).get();
+        } catch (ExecutionException e) {
+            throw new AssertionError("A no-op task cannot fail.", e);
+        }
     }
 
     @Override
@@ -67,7 +423,9 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Applicant> getFilteredApplicantList() {
-        return model.getFilteredApplicantList();
+        return resultExecutor == null
+                ? model.getFilteredApplicantList()
+                : unmodifiablePublishedApplicants;
     }
 
     @Override
@@ -80,6 +438,16 @@ public class LogicManager implements Logic {
         return model.getIsToggle();
     }
 
+    @Override
+    public ApplicantStatistics getApplicantStatistics() {
+        return model.getApplicantStatistics();
+    }
+
+    @Override
+    public ApplicantCounters getApplicantCounters() {
+        return model.getApplicantCounters();
+    }
+
     @Override
     public Path getInternWatcherFilePath() {
         return model.getInternWatcherFilePath();
@@ -0,0 +1,35 @@
+package seedu.intern.logic;
+
+/**
+ * Listens to the saves of the intern watcher that {@code Logic} makes in the background.
+ * The methods are called on the thread making the save, not on the JavaFX application thread.
+ */
+public interface SaveListener {
+
+    /** A no-op listener, used until another listener is set. */
+    SaveListener NONE = new SaveListener() {
+        @Override
+        public void saveStarted() {}
+
+        @Override
+        public void saveSucceeded() {}
+
+        @Override
+        public void saveFailed(String errorMessage) {}
+    };
+
+    /**
+     * Called when a save of the intern watcher starts.
+     */
+    void saveStarted();
+
+    /**
+     * Called when the latest pending save of the intern watcher has been written successfully.
+     */
+    void saveSucceeded();
+
+    /**
+     * Called when a save of the intern watcher fails, with a message describing the failure.
+     */
+    void saveFailed(String errorMessage);
+}
@@ -1,5 +1,6 @@
 package seedu.intern.logic.commands;
 
+import seedu.intern.commons.core.Messages;
 import seedu.intern.logic.commands.exceptions.CommandException;
 import seedu.intern.model.Model;
 
@@ -17,4 +18,14 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Throws a {@code CommandException} if the command has been cancelled, which is signalled by interrupting the
+     * thread executing it. Long commands check this as they go, before they change the model.
+     */
+    protected static void checkNotCancelled() throws CommandException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CommandException(Messages.MESSAGE_COMMAND_CANCELLED);
+        }
+    }
+
 }
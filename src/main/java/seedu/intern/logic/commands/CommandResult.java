@@ -3,6 +3,8 @@ package seedu.intern.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the result of a command execution.
@@ -20,14 +22,45 @@ public class CommandResult {
     /** The application should display the given applicant details. */
     private final boolean view;
 
+    /** The application should display the statistics of the applicants. */
+    private final boolean stats;
+
+    /**
+     * The work the command left running in the background, which completes with a message describing what it did,
+     * or exceptionally with a {@code CommandException} if it failed. Null if there is none.
+     */
+    private final CompletableFuture<String> backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean view) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean view, boolean stats) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.view = view;
+        this.stats = stats;
+        this.backgroundTask = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, for a command that left
+     * {@code backgroundTask} running, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, CompletableFuture<String> backgroundTask) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.view = false;
+        this.stats = false;
+        this.backgroundTask = requireNonNull(backgroundTask);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, that does not display statistics.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean view) {
+        this(feedbackToUser, showHelp, exit, view, false);
     }
 
     /**
@@ -54,6 +87,17 @@ public class CommandResult {
         return view;
     }
 
+    public boolean isStats() {
+        return stats;
+    }
+
+    /**
+     * Returns the work the command left running in the background, if any.
+     */
+    public Optional<CompletableFuture<String>> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,11 +113,12 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
-                && view == otherCommandResult.view;
+                && view == otherCommandResult.view
+                && stats == otherCommandResult.stats;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, view);
+        return Objects.hash(feedbackToUser, showHelp, exit, view, stats);
     }
 }
@@ -2,6 +2,7 @@ package seedu.intern.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.intern.commons.core.Messages;
@@ -44,10 +45,8 @@ public class DeleteCommand extends Command {
         }
         if (targetSelection.hasAllSelectFlag() && targetSelection.checkAllSelected()) {
             int length = lastShownList.size();
-            for (int i = 0; i < length; i++) {
-                Applicant applicantToDelete = lastShownList.get(0);
-                model.deleteApplicant(applicantToDelete);
-            }
+            // Create copy of list, as the filtered list shrinks while the applicants are deleted
+            model.deleteApplicants(new ArrayList<>(lastShownList));
             model.commitInternWatcher(String.format(MESSAGE_COMMIT_DELETE_ALL, String.valueOf(length)));
             return new CommandResult(String.format(MESSAGE_DELETE_ALL_SUCCESS, String.valueOf(length)));
         } else {
@@ -13,7 +13,6 @@ import static seedu.intern.logic.parser.CliSyntax.PREFIX_SKILL;
 import static seedu.intern.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.intern.model.Model.PREDICATE_SHOW_ALL_APPLICANTS;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +23,7 @@ import seedu.intern.commons.core.Messages;
 import seedu.intern.commons.core.selection.Selection;
 import seedu.intern.commons.util.CollectionUtil;
 import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.model.ApplicantEditBatch;
 import seedu.intern.model.Model;
 import seedu.intern.model.applicant.Applicant;
 import seedu.intern.model.applicant.ApplicationStatus;
@@ -128,22 +128,16 @@ public class EditCommand extends Command {
             }
 
             int totalApplicants = lastShownList.size();
-            int addSuccesses = 0;
-            // Create copy of list
-            ArrayList<Applicant> targetApplicants = new ArrayList<>(lastShownList);
+            ApplicantEditBatch batch = model.startEditBatch();
 
-            for (Applicant applicantToEdit : targetApplicants) {
+            for (Applicant applicantToEdit : lastShownList) {
                 Applicant editedApplicant = createEditedApplicant(applicantToEdit, editApplicantDescriptor);
-
-                if (!applicantToEdit.isSameApplicant(editedApplicant) && model.hasApplicant(editedApplicant)) {
-                    continue;
-                }
-
-                model.setApplicant(applicantToEdit, editedApplicant);
-                addSuccesses++;
+                // Applicants whose edited identity already exists in Intern Watcher are skipped
+                batch.stage(applicantToEdit, editedApplicant);
             }
 
-            model.commitInternWatcher(String.format(MESSAGE_COMMIT_EDIT_ALL, addSuccesses));
+            int addSuccesses = batch.size();
+            model.commitEditBatch(batch, String.format(MESSAGE_COMMIT_EDIT_ALL, addSuccesses));
             return new CommandResult(String.format(MESSAGE_EDIT_ALL_SUCCESS, addSuccesses, totalApplicants));
         }
     }
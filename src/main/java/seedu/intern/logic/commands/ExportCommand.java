@@ -0,0 +1,85 @@
+package seedu.intern.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.model.Model;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.storage.ApplicantExporter;
+
+/**
+ * Writes the applicants currently listed to a CSV, TSV or JSON Lines file.
+ * The file is written in the background, so that Intern Watcher can be used while a long list is exported, and
+ * whether it was written is reported once it is done. Cancelling the export leaves any existing file unchanged.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the applicants currently listed to a file. "
+            + "The file is a CSV, TSV or JSON Lines file if its name ends with .csv, .tsv or .jsonl, and is "
+            + "compressed if the name is followed by " + ApplicantExporter.GZIP_EXTENSION + ".\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " shortlist.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exporting %1$d applicants to %2$s";
+    public static final String MESSAGE_EXPORTED = "Exported %1$d applicants to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export applicants to %1$s: %2$s";
+
+    private final Path filePath;
+    private CompletableFuture<String> export;
+
+    /**
+     * Creates an ExportCommand to write the applicants listed to the file at {@code filePath}, which must be a file
+     * that applicants can be exported to.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        assert ApplicantExporter.getFormat(filePath).isPresent();
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // Copy the list, as it may change while it is being written
+        List<Applicant> applicants = new ArrayList<>(model.getFilteredApplicantList());
+        CompletableFuture<Void> writing = ApplicantExporter.exportInBackground(applicants, filePath);
+        CompletableFuture<String> export = new CompletableFuture<>();
+        writing.whenComplete((unused, error) -> {
+            if (error == null) {
+                export.complete(String.format(MESSAGE_EXPORTED, applicants.size(), filePath));
+            } else {
+                export.completeExceptionally(new CommandException(
+                        String.format(MESSAGE_EXPORT_FAILED, filePath, error)));
+            }
+        });
+        export.whenComplete((message, error) -> {
+            if (export.isCancelled()) {
+                writing.cancel(false);
+            }
+        });
+        this.export = export;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, applicants.size(), filePath), export);
+    }
+
+    /**
+     * Returns the export started by the last execution of this command, which completes once the file is written.
+     */
+    CompletableFuture<String> getExport() {
+        return export;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath));
+    }
+}
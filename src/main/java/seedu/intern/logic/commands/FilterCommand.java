@@ -14,10 +14,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.Predicate;
 
 import seedu.intern.commons.core.Messages;
+import seedu.intern.commons.core.MetricsCenter;
 import seedu.intern.commons.util.CollectionUtil;
+import seedu.intern.logic.commands.exceptions.CommandException;
 import seedu.intern.model.Model;
+import seedu.intern.model.applicant.Applicant;
 import seedu.intern.model.applicant.ApplicationStatus;
 import seedu.intern.model.applicant.CombineFiltersPredicate;
 import seedu.intern.model.applicant.Grade;
@@ -70,9 +75,22 @@ public class FilterCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredApplicantList(predicate);
+        CancellableFilter filter = new CancellableFilter(predicate);
+        try {
+            model.updateFilteredApplicantList(filter);
+        } catch (CancellationException e) {
+            throw new CommandException(Messages.MESSAGE_COMMAND_CANCELLED, e);
+        } finally {
+            // the list tests applicants again as they change, which later commands must not be cancelled by
+            filter.isCancellable = false;
+        }
+        int total = model.getInternWatcher().getApplicantList().size();
+        if (total > 0) {
+            MetricsCenter.record("filter.selectivity.percent",
+                    100L * model.getFilteredApplicantList().size() / total);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_APPLICANTS_LISTED_OVERVIEW, model.getFilteredApplicantList().size()));
     }
@@ -84,6 +102,30 @@ public class FilterCommand extends Command {
                 && filterApplicantDescriptor.equals(((FilterCommand) other).filterApplicantDescriptor)); // state check
     }
 
+    /**
+     * Tests applicants with a predicate, checking every {@code CHECK_INTERVAL} applicants whether the command has
+     * been cancelled while {@code isCancellable}. The model then keeps the list as it was.
+     */
+    private static class CancellableFilter implements Predicate<Applicant> {
+        private static final int CHECK_INTERVAL = 4096;
+
+        private final Predicate<Applicant> predicate;
+        private boolean isCancellable = true;
+        private int tested = 0;
+
+        private CancellableFilter(Predicate<Applicant> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Applicant applicant) {
+            if (isCancellable && ++tested % CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            return predicate.test(applicant);
+        }
+    }
+
     /**
      * Stores the details to Filter the applicant with. Each non-empty field value will replace the
      * corresponding field value of the applicant.
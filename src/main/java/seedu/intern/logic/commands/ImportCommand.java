@@ -0,0 +1,192 @@
+package seedu.intern.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.intern.commons.core.Messages;
+import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.logic.parser.CsvApplicantParser;
+import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.model.Model;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.Name;
+
+/**
+ * Adds the applicants in a CSV or TSV file to Intern Watcher.
+ *
+ * The file is read a chunk of rows at a time, and the rows of each chunk are parsed in parallel. Rows that are
+ * invalid, or that have the same identity as an existing applicant or an earlier row, are reported and skipped.
+ * The remaining applicants are added as a single batch, which is undone as one change.
+ * The import can be cancelled until then, leaving the applicants unchanged.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the applicants in a CSV or TSV file. "
+            + "The first row of the file names the columns: name, phone, email, grade, institution, course, "
+            + "graduationYearMonth, job, and optionally status and skills, with skills separated by "
+            + CsvApplicantParser.SKILL_SEPARATOR + ".\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/applicants.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d applicants imported from %2$s";
+    public static final String MESSAGE_ROWS_SKIPPED = "\n%1$d rows skipped:";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_DUPLICATE_ROW = "This applicant already exists in Intern Watcher";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_EMPTY_FILE = "File is empty: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_COMMIT_IMPORT = "Import %1$d applicants from %2$s";
+
+    /** Number of rows read before they are parsed together. */
+    static final int CHUNK_SIZE = 8192;
+    /** Number of row errors shown in the result. */
+    static final int MAX_ROW_ERRORS_SHOWN = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the applicants in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Identities of the applicants already in the model, and of the rows accepted so far
+        Set<Name> names = new HashSet<>();
+        for (Applicant applicant : model.getInternWatcher().getApplicantList()) {
+            names.add(applicant.getName());
+        }
+        List<Applicant> toAdd = new ArrayList<>();
+        List<String> rowErrors = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+            }
+            CsvApplicantParser parser = new CsvApplicantParser(header);
+
+            List<String> rows = new ArrayList<>(CHUNK_SIZE);
+            List<Integer> rowNumbers = new ArrayList<>(CHUNK_SIZE);
+            int rowNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                rows.add(line);
+                rowNumbers.add(rowNumber);
+                if (rows.size() == CHUNK_SIZE) {
+                    checkNotCancelled();
+                    importChunk(parser, rows, rowNumbers, names, toAdd, rowErrors);
+                    rows.clear();
+                    rowNumbers.clear();
+                }
+            }
+            checkNotCancelled();
+            importChunk(parser, rows, rowNumbers, names, toAdd, rowErrors);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (ClosedByInterruptException e) {
+            // the file is closed if the command is cancelled while it is being read
+            throw new CommandException(Messages.MESSAGE_COMMAND_CANCELLED, e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        } catch (ParseException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+
+        if (!toAdd.isEmpty()) {
+            model.addApplicants(toAdd);
+            model.commitInternWatcher(String.format(MESSAGE_COMMIT_IMPORT, toAdd.size(), filePath));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath)
+                + describeRowErrors(rowErrors));
+    }
+
+    /**
+     * Parses {@code rows} in parallel, then adds the applicants parsed to {@code toAdd} in order, unless their name
+     * is already in {@code names}. Rows that cannot be added are described in {@code rowErrors}.
+     */
+    private static void importChunk(CsvApplicantParser parser, List<String> rows, List<Integer> rowNumbers,
+            Set<Name> names, List<Applicant> toAdd, List<String> rowErrors) {
+        ParsedRow[] parsedRows = IntStream.range(0, rows.size())
+                .parallel()
+                .mapToObj(i -> ParsedRow.of(parser, rows.get(i)))
+                .toArray(ParsedRow[]::new);
+
+        for (int i = 0; i < parsedRows.length; i++) {
+            ParsedRow parsedRow = parsedRows[i];
+            if (parsedRow.applicant == null) {
+                rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumbers.get(i), parsedRow.error));
+            } else if (!names.add(parsedRow.applicant.getName())) {
+                rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumbers.get(i), MESSAGE_DUPLICATE_ROW));
+            } else {
+                toAdd.add(parsedRow.applicant);
+            }
+        }
+    }
+
+    private static String describeRowErrors(List<String> rowErrors) {
+        if (rowErrors.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_ROWS_SKIPPED, rowErrors.size()));
+        rowErrors.stream().limit(MAX_ROW_ERRORS_SHOWN).forEach(error -> description.append('\n').append(error));
+        if (rowErrors.size() > MAX_ROW_ERRORS_SHOWN) {
+            description.append('\n').append(String.format(MESSAGE_MORE_ROW_ERRORS,
+                    rowErrors.size() - MAX_ROW_ERRORS_SHOWN));
+        }
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+
+    /**
+     * The applicant parsed from a row, or the reason the row is invalid.
+     */
+    private static class ParsedRow {
+        private final Applicant applicant;
+        private final String error;
+
+        private ParsedRow(Applicant applicant, String error) {
+            this.applicant = applicant;
+            this.error = error;
+        }
+
+        static ParsedRow of(CsvApplicantParser parser, String row) {
+            try {
+                return new ParsedRow(parser.parse(row), null);
+            } catch (ParseException e) {
+                return new ParsedRow(null, e.getMessage());
+            }
+        }
+    }
+}
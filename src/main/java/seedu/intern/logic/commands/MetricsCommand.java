@@ -0,0 +1,22 @@
+package seedu.intern.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.intern.commons.core.MetricsCenter;
+import seedu.intern.model.Model;
+
+/**
+ * Shows the counters and latency percentiles recorded while Intern Watcher has been running.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_SUCCESS = "Metrics since Intern Watcher started:\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, MetricsCenter.report()));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.intern.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.intern.model.ApplicantStatistics;
+import seedu.intern.model.Model;
+import seedu.intern.model.applicant.Applicant;
+
+/**
+ * Shows the statistics of the applicants currently listed in Intern Watcher.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Showing statistics of the %1$d applicants listed";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Applicant> listed = model.getFilteredApplicantList();
+        // When every applicant is listed, the snapshot of all of them is aggregated, which is reused by later stats
+        // commands until the applicants change
+        ApplicantStatistics statistics = listed.size() == model.getInternWatcher().getApplicantList().size()
+                ? ApplicantStatistics.ofColumns(model.getColumnarInternWatcher())
+                : ApplicantStatistics.of(listed);
+        model.displayApplicantStatistics(statistics);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, statistics.getTotal()),
+                false, false, false, true);
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.intern.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus;
+import seedu.intern.model.skills.Skill;
+
+/**
+ * Parses the rows of a CSV or TSV file of applicants into {@code Applicant}s.
+ *
+ * The first row is a header naming the column of each field, in any order. Column names are matched ignoring case,
+ * spaces and underscores, so {@code Graduation Year Month} names the {@code graduationYearMonth} column. Columns
+ * with other names are ignored. The {@code status} and {@code skills} columns are optional, and the skills of an
+ * applicant are separated by {@value #SKILL_SEPARATOR}.
+ *
+ * Fields are separated by tabs if the header contains a tab, and by commas otherwise. A field may be enclosed in
+ * double quotes to contain the separator, with a double quote inside it written as two double quotes.
+ *
+ * A parser holds no state other than the column positions, so rows can be parsed on many threads at once.
+ */
+public class CsvApplicantParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_GRADE = "grade";
+    public static final String COLUMN_INSTITUTION = "institution";
+    public static final String COLUMN_COURSE = "course";
+    public static final String COLUMN_GRADUATION_YEAR_MONTH = "graduationYearMonth";
+    public static final String COLUMN_JOB = "job";
+    public static final String COLUMN_STATUS = "status";
+    public static final String COLUMN_SKILLS = "skills";
+
+    /** The columns in the order they are written when exporting applicants. */
+    public static final List<String> COLUMNS = Collections.unmodifiableList(Arrays.asList(COLUMN_NAME, COLUMN_PHONE,
+            COLUMN_EMAIL, COLUMN_GRADE, COLUMN_INSTITUTION, COLUMN_COURSE, COLUMN_GRADUATION_YEAR_MONTH, COLUMN_JOB,
+            COLUMN_STATUS, COLUMN_SKILLS));
+
+    public static final String SKILL_SEPARATOR = ";";
+
+    public static final String MESSAGE_MISSING_COLUMNS = "The header row is missing the columns: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected at least %1$d fields but found %2$d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+
+    // The required columns come first in COLUMNS
+    private static final int NUMBER_OF_REQUIRED_COLUMNS = 8;
+    private static final int STATUS_COLUMN = COLUMNS.indexOf(COLUMN_STATUS);
+    private static final int SKILLS_COLUMN = COLUMNS.indexOf(COLUMN_SKILLS);
+    private static final int ABSENT = -1;
+
+    private final char separator;
+    // Position of each column in COLUMNS within a row, or ABSENT
+    private final int[] positions = new int[COLUMNS.size()];
+    private final int minimumFieldCount;
+
+    /**
+     * Creates a parser for the rows following the header row {@code header}.
+     *
+     * @throws ParseException if the header does not name every required column.
+     */
+    public CsvApplicantParser(String header) throws ParseException {
+        requireNonNull(header);
+        separator = header.indexOf('\t') >= 0 ? '\t' : ',';
+        Arrays.fill(positions, ABSENT);
+
+        List<String> names = split(header, separator);
+        for (int i = 0; i < names.size(); i++) {
+            int column = columnOf(names.get(i));
+            if (column != ABSENT && positions[column] == ABSENT) {
+                positions[column] = i;
+            }
+        }
+
+        List<String> missingColumns = new ArrayList<>();
+        int lastRequiredPosition = 0;
+        for (int column = 0; column < NUMBER_OF_REQUIRED_COLUMNS; column++) {
+            if (positions[column] == ABSENT) {
+                missingColumns.add(COLUMNS.get(column));
+            }
+            lastRequiredPosition = Math.max(lastRequiredPosition, positions[column]);
+        }
+        if (!missingColumns.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingColumns)));
+        }
+        minimumFieldCount = lastRequiredPosition + 1;
+    }
+
+    /**
+     * Returns the field separator of the file, which is a tab or a comma.
+     */
+    public char getSeparator() {
+        return separator;
+    }
+
+    /**
+     * Parses the row {@code line} into an {@code Applicant}.
+     *
+     * @throws ParseException if the row is malformed or a field is invalid.
+     */
+    public Applicant parse(String line) throws ParseException {
+        requireNonNull(line);
+        List<String> fields = split(line, separator);
+        if (fields.size() < minimumFieldCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, minimumFieldCount, fields.size()));
+        }
+
+        String status = field(fields, STATUS_COLUMN);
+        String skills = field(fields, SKILLS_COLUMN);
+        Set<Skill> skillSet = ParserUtil.parseSkills(skills.isBlank()
+                ? Collections.emptyList()
+                : Arrays.asList(skills.split(SKILL_SEPARATOR)));
+
+        return new Applicant(
+                ParserUtil.parseName(field(fields, 0)),
+                ParserUtil.parsePhone(field(fields, 1)),
+                ParserUtil.parseEmail(field(fields, 2)),
+                ParserUtil.parseGrade(field(fields, 3)),
+                ParserUtil.parseInstitution(field(fields, 4)),
+                ParserUtil.parseCourse(field(fields, 5)),
+                ParserUtil.parseGraduationYearMonth(field(fields, 6)),
+                ParserUtil.parseJob(field(fields, 7)),
+                status.isBlank() ? new ApplicationStatus() : ParserUtil.parseStatus(status),
+                skillSet);
+    }
+
+    /**
+     * Returns the field of {@code fields} in the column at {@code column} of {@code COLUMNS}, or an empty string if
+     * the file has no such column or the row ends before it.
+     */
+    private String field(List<String> fields, int column) {
+        int position = positions[column];
+        return position == ABSENT || position >= fields.size() ? "" : fields.get(position);
+    }
+
+    /**
+     * Returns the position in {@code COLUMNS} of the column named {@code name}, or {@code ABSENT} if there is none.
+     */
+    private static int columnOf(String name) {
+        String normalizedName = name.replaceAll("[\\s_\\uFEFF]", "").toLowerCase(Locale.ROOT);
+        for (int column = 0; column < COLUMNS.size(); column++) {
+            if (COLUMNS.get(column).toLowerCase(Locale.ROOT).equals(normalizedName)) {
+                return column;
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Splits {@code line} into its fields separated by {@code separator}, removing the quotes around quoted fields.
+     *
+     * @throws ParseException if a quoted field is not closed.
+     */
+    static List<String> split(String line, char separator) throws ParseException {
+        List<String> fields = new ArrayList<>(COLUMNS.size());
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
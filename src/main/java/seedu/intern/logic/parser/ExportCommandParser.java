@@ -0,0 +1,45 @@
+package seedu.intern.logic.parser;
+
+import static seedu.intern.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.intern.logic.commands.ExportCommand;
+import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.storage.ApplicantExporter;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path is invalid: %1$s";
+    public static final String MESSAGE_UNSUPPORTED_FILE = "The file name should end with .csv, .tsv or .jsonl, "
+            + "optionally followed by " + ApplicantExporter.GZIP_EXTENSION;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, trimmedArgs), e);
+        }
+        if (ApplicantExporter.getFormat(filePath).isEmpty()) {
+            throw new ParseException(MESSAGE_UNSUPPORTED_FILE);
+        }
+        return new ExportCommand(filePath);
+    }
+
+}
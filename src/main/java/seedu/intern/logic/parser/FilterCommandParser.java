@@ -33,7 +33,14 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FilterCommand parse(String args) throws ParseException {
+        return new FilterCommand(parseDescriptor(args));
+    }
 
+    /**
+     * Parses the given {@code String} of arguments of a FilterCommand into the conditions to filter applicants by.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterApplicantDescriptor parseDescriptor(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args,
                         PREFIX_SKILL,
@@ -63,7 +70,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         if (!filterApplicantDescriptor.isAnyFieldFiltered()) {
             throw new ParseException(String.format(MESSAGE_NOT_FILTERED, FilterCommand.MESSAGE_USAGE));
         }
-        return new FilterCommand(filterApplicantDescriptor);
+        return filterApplicantDescriptor;
     }
 
 
@@ -12,11 +12,15 @@ import seedu.intern.logic.commands.Command;
 import seedu.intern.logic.commands.DeleteCommand;
 import seedu.intern.logic.commands.EditCommand;
 import seedu.intern.logic.commands.ExitCommand;
+import seedu.intern.logic.commands.ExportCommand;
 import seedu.intern.logic.commands.FilterCommand;
 import seedu.intern.logic.commands.FindCommand;
 import seedu.intern.logic.commands.HelpCommand;
+import seedu.intern.logic.commands.ImportCommand;
 import seedu.intern.logic.commands.ListCommand;
+import seedu.intern.logic.commands.MetricsCommand;
 import seedu.intern.logic.commands.RedoCommand;
+import seedu.intern.logic.commands.StatsCommand;
 import seedu.intern.logic.commands.UndoCommand;
 import seedu.intern.logic.commands.ViewCommand;
 import seedu.intern.logic.parser.exceptions.ParseException;
@@ -71,6 +75,14 @@ public class InternWatcherParser {
             return new FilterCommandParser().parse(arguments);
         case ViewCommand.COMMAND_WORD:
             return new ViewCommandParser().parse(arguments);
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+        case MetricsCommand.COMMAND_WORD:
+            return new MetricsCommand();
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
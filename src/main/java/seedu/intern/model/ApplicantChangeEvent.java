@@ -0,0 +1,107 @@
+package seedu.intern.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.intern.model.applicant.Applicant;
+
+/**
+ * A change to the applicants in the {@code Model}, numbered by its position in the {@code ApplicantChangeStream}.
+ * Changes to an applicant can be matched to the applicant by its id, which does not change when it is edited.
+ */
+public class ApplicantChangeEvent {
+
+    /**
+     * The kinds of changes to the applicants.
+     */
+    public enum Type {
+        /** An applicant was added. Only the applicant after the change is given. */
+        ADDED,
+        /** An applicant was edited. The applicant before and after the change are given. */
+        UPDATED,
+        /** An applicant was removed. Only the applicant before the change is given. */
+        REMOVED,
+        /**
+         * All the applicants were replaced, e.g. cleared or loaded from a file. No applicant is given, and subscribers
+         * rebuild their state from the applicants in the {@code Model}.
+         */
+        RESET,
+        /** A command was undone. The changes to the applicants this made follow this event. */
+        UNDONE,
+        /** An undone command was redone. The changes to the applicants this made follow this event. */
+        REDONE
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final Applicant before;
+    private final Applicant after;
+
+    /**
+     * Creates the change numbered {@code sequence}, with the applicant {@code before} and {@code after} it, either
+     * of which may be null if the change has no such applicant.
+     */
+    public ApplicantChangeEvent(long sequence, Type type, Applicant before, Applicant after) {
+        requireNonNull(type);
+        this.sequence = sequence;
+        this.type = type;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Returns the number of this change, which is one more than that of the change before it.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the applicant before the change, if it was updated or removed.
+     */
+    public Optional<Applicant> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    /**
+     * Returns the applicant after the change, if it was added or updated.
+     */
+    public Optional<Applicant> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ApplicantChangeEvent)) {
+            return false;
+        }
+
+        ApplicantChangeEvent otherEvent = (ApplicantChangeEvent) other;
+        return sequence == otherEvent.sequence
+                && type == otherEvent.type
+                && Objects.equals(before, otherEvent.before)
+                && Objects.equals(after, otherEvent.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequence, type, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + type
+                + (before == null ? "" : " before: " + before.getName())
+                + (after == null ? "" : " after: " + after.getName());
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.intern.model;
+
+import static seedu.intern.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.core.MetricsCenter;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.exceptions.MissedChangesException;
+
+/**
+ * A bounded buffer of the latest changes to the applicants, which any number of subscribers read at their own pace.
+ *
+ * Publishing a change never waits for subscribers, as changes are published by commands on the command thread,
+ * which must not be held up by a slow subscriber. Instead, each subscriber pulls changes from its own position in
+ * the buffer, and a subscriber that falls more than the capacity of the buffer behind is told how many changes it
+ * missed, and continues from the latest change once it has rebuilt its state from the applicants in the
+ * {@code Model}. As every change names the applicant by its id,
+ * changes published while a subscriber rebuilds can be applied again safely.
+ */
+public class ApplicantChangeStream {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(ApplicantChangeStream.class);
+
+    private final ApplicantChangeEvent[] buffer;
+    private final Set<Subscription> subscriptions = new CopyOnWriteArraySet<>();
+    // The sequence number of the next change to be published
+    private long nextSequence = 1;
+
+    public ApplicantChangeStream() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a stream that keeps the latest {@code capacity} changes for its subscribers.
+     */
+    public ApplicantChangeStream(int capacity) {
+        checkArgument(capacity > 0, "The capacity of a change stream must be positive");
+        buffer = new ApplicantChangeEvent[capacity];
+    }
+
+    /**
+     * Returns true if any subscriber is reading the changes, so callers can skip working out changes nobody reads.
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Returns a new subscription to the changes published from now on.
+     */
+    public synchronized Subscription subscribe() {
+        Subscription subscription = new Subscription(nextSequence);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Returns the sequence number of the latest change published, or 0 if none has been published.
+     */
+    public synchronized long getLatestSequence() {
+        return nextSequence - 1;
+    }
+
+    /**
+     * Publishes a change of the given {@code type} to the applicant {@code before} and {@code after} it, either of
+     * which may be null, and returns its sequence number.
+     */
+    public synchronized long publish(ApplicantChangeEvent.Type type, Applicant before, Applicant after) {
+        long sequence = nextSequence++;
+        buffer[indexOf(sequence)] = new ApplicantChangeEvent(sequence, type, before, after);
+        notifyAll();
+        return sequence;
+    }
+
+    private int indexOf(long sequence) {
+        return (int) (sequence % buffer.length);
+    }
+
+    /**
+     * A subscriber's position in the stream.
+     */
+    public class Subscription implements AutoCloseable {
+        // The sequence number of the next change to be read
+        private long cursor;
+
+        private Subscription(long cursor) {
+            this.cursor = cursor;
+        }
+
+        /**
+         * Returns up to {@code maxEvents} of the changes not yet read, oldest first, without waiting for changes to
+         * be published.
+         *
+         * @throws MissedChangesException if changes not yet read were discarded. The subscription then continues
+         *     from the changes published after this call.
+         */
+        public List<ApplicantChangeEvent> poll(int maxEvents) throws MissedChangesException {
+            checkArgument(maxEvents > 0, "The number of changes to poll must be positive");
+            synchronized (ApplicantChangeStream.this) {
+                long oldestSequence = Math.max(1, nextSequence - buffer.length);
+                if (cursor < oldestSequence) {
+                    long missedChanges = oldestSequence - cursor;
+                    cursor = nextSequence;
+                    MetricsCenter.increment("changes.missed");
+                    logger.warning("A subscriber missed " + missedChanges + " changes to the applicants");
+                    throw new MissedChangesException(missedChanges);
+                }
+
+                int count = (int) Math.min(maxEvents, nextSequence - cursor);
+                if (count == 0) {
+                    return Collections.emptyList();
+                }
+                List<ApplicantChangeEvent> events = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    events.add(buffer[indexOf(cursor++)]);
+                }
+                return events;
+            }
+        }
+
+        /**
+         * Returns up to {@code maxEvents} of the changes not yet read, oldest first, waiting up to {@code timeout}
+         * for a change to be published if there are none. Returns an empty list if none was published in time.
+         *
+         * @throws MissedChangesException if changes not yet read were discarded.
+         * @throws InterruptedException if the thread was interrupted while waiting.
+         */
+        public List<ApplicantChangeEvent> poll(int maxEvents, long timeout, TimeUnit unit)
+                throws MissedChangesException, InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (ApplicantChangeStream.this) {
+                long remaining = deadline - System.nanoTime();
+                while (cursor == nextSequence && remaining > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(ApplicantChangeStream.this, remaining);
+                    remaining = deadline - System.nanoTime();
+                }
+                return poll(maxEvents);
+            }
+        }
+
+        /**
+         * Returns the number of changes published that this subscriber has not read.
+         */
+        public long getLag() {
+            synchronized (ApplicantChangeStream.this) {
+                return nextSequence - cursor;
+            }
+        }
+
+        /**
+         * Returns true if this subscriber has fallen so far behind that changes it has not read were discarded.
+         */
+        public boolean hasMissedChanges() {
+            return getLag() > buffer.length;
+        }
+
+        /**
+         * Stops this subscription, after which the stream no longer counts it as a subscriber.
+         */
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.intern.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.intern.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.Name;
+
+/**
+ * Stages edits to many applicants so that they can be applied to the {@code Model} as a single batch.
+ * Each staged edit is validated against a hash snapshot of the applicant identities, which is updated as edits
+ * are staged, so the outcome is the same as applying the edits one after another.
+ */
+public class ApplicantEditBatch {
+
+    private final Set<Name> names = new HashSet<>();
+    private final Map<Applicant, Applicant> edits = new LinkedHashMap<>();
+
+    /**
+     * Creates an empty {@code ApplicantEditBatch} over the given {@code applicants}.
+     */
+    public ApplicantEditBatch(List<Applicant> applicants) {
+        requireNonNull(applicants);
+        for (Applicant applicant : applicants) {
+            names.add(applicant.getName());
+        }
+    }
+
+    /**
+     * Stages the replacement of {@code target} with {@code editedApplicant}.
+     * Returns false, without staging the edit, if {@code editedApplicant} would have the same identity as another
+     * applicant.
+     */
+    public boolean stage(Applicant target, Applicant editedApplicant) {
+        requireAllNonNull(target, editedApplicant);
+
+        if (!target.isSameApplicant(editedApplicant)) {
+            if (names.contains(editedApplicant.getName())) {
+                return false;
+            }
+            names.remove(target.getName());
+            names.add(editedApplicant.getName());
+        }
+
+        edits.put(target, editedApplicant);
+        return true;
+    }
+
+    /**
+     * Returns the number of staged edits.
+     */
+    public int size() {
+        return edits.size();
+    }
+
+    /**
+     * Returns the staged edits, mapping each target applicant to its edited applicant.
+     */
+    public Map<Applicant, Applicant> getEdits() {
+        return Collections.unmodifiableMap(edits);
+    }
+}
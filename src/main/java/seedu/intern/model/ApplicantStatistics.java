@@ -0,0 +1,207 @@
+package seedu.intern.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+import seedu.intern.model.applicant.Institution;
+import seedu.intern.model.skills.Skill;
+
+/**
+ * Aggregate statistics of a list of applicants: the pipeline funnel by application status, the grade distribution,
+ * the graduation cohorts and the most common institutions and skills.
+ * The statistics are computed in a single pass, which is split across threads for large lists.
+ */
+public class ApplicantStatistics {
+
+    /** Lists with at least this many applicants are aggregated in parallel. */
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    /** Number of institutions and skills reported as the most common. */
+    public static final int TOP_COUNT = 5;
+
+    /** Width of each bucket of the grade histogram, in hundredths of a grade point. */
+    public static final int GRADE_BUCKET_WIDTH = 50;
+
+    private static final Status[] STATUSES = Status.values();
+    private static final int MAX_GRADE = 500;
+    private static final int GRADE_BUCKETS = MAX_GRADE / GRADE_BUCKET_WIDTH;
+
+    private int total;
+    private final int[] statusCounts = new int[STATUSES.length];
+    private final int[] gradeCounts = new int[GRADE_BUCKETS];
+    private final Map<Integer, Integer> cohortCounts = new TreeMap<>();
+    private final Map<Institution, Integer> institutionCounts = new HashMap<>();
+    private final Map<Skill, Integer> skillCounts = new HashMap<>();
+
+    /**
+     * Returns the statistics of {@code applicants}.
+     */
+    public static ApplicantStatistics of(List<Applicant> applicants) {
+        requireNonNull(applicants);
+        if (applicants.size() < PARALLEL_THRESHOLD) {
+            ApplicantStatistics statistics = new ApplicantStatistics();
+            applicants.forEach(statistics::accept);
+            return statistics;
+        }
+
+        // Observable lists are not safe to split across threads, so the applicants are copied first.
+        return new ArrayList<>(applicants).parallelStream()
+                .collect(ApplicantStatistics::new, ApplicantStatistics::accept, ApplicantStatistics::combine);
+    }
+
+    /**
+     * Returns the statistics of the applicants in {@code applicants}, aggregated over its columns.
+     */
+    public static ApplicantStatistics ofColumns(ColumnarInternWatcher applicants) {
+        requireNonNull(applicants);
+        ApplicantStatistics statistics = new ApplicantStatistics();
+        statistics.total = applicants.size();
+        int[] statusCounts = applicants.countByStatus();
+        System.arraycopy(statusCounts, 0, statistics.statusCounts, 0, statusCounts.length);
+        int[] gradeCounts = applicants.countByGradeBucket(GRADE_BUCKET_WIDTH, GRADE_BUCKETS);
+        System.arraycopy(gradeCounts, 0, statistics.gradeCounts, 0, gradeCounts.length);
+        statistics.cohortCounts.putAll(applicants.countByGraduationYear());
+        statistics.institutionCounts.putAll(applicants.countByInstitution());
+        statistics.skillCounts.putAll(applicants.countBySkill());
+        return statistics;
+    }
+
+    /**
+     * Adds {@code applicant} to these statistics.
+     */
+    void accept(Applicant applicant) {
+        total++;
+        statusCounts[applicant.getApplicationStatus().value.ordinal()]++;
+        gradeCounts[toGradeBucket(applicant)]++;
+        cohortCounts.merge(applicant.getGraduationYearMonth().yearMonth.getYear(), 1, Integer::sum);
+        institutionCounts.merge(applicant.getInstitution(), 1, Integer::sum);
+        for (Skill skill : applicant.getSkills()) {
+            skillCounts.merge(skill, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Adds the applicants counted in {@code other} to these statistics.
+     */
+    void combine(ApplicantStatistics other) {
+        total += other.total;
+        for (int i = 0; i < statusCounts.length; i++) {
+            statusCounts[i] += other.statusCounts[i];
+        }
+        for (int i = 0; i < gradeCounts.length; i++) {
+            gradeCounts[i] += other.gradeCounts[i];
+        }
+        other.cohortCounts.forEach((year, count) -> cohortCounts.merge(year, count, Integer::sum));
+        other.institutionCounts.forEach((institution, count) ->
+                institutionCounts.merge(institution, count, Integer::sum));
+        other.skillCounts.forEach((skill, count) -> skillCounts.merge(skill, count, Integer::sum));
+    }
+
+    private static int toGradeBucket(Applicant applicant) {
+        return Math.min(applicant.getGrade().hundredths / GRADE_BUCKET_WIDTH, GRADE_BUCKETS - 1);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of applicants with {@code status}.
+     */
+    public int getStatusCount(Status status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    /**
+     * Returns the number of applicants in each bucket of the grade histogram, from the lowest grades up.
+     */
+    public int[] getGradeCounts() {
+        return Arrays.copyOf(gradeCounts, gradeCounts.length);
+    }
+
+    /**
+     * Returns the range of grades in the bucket at {@code index} of the grade histogram, e.g. "4.50-5.00".
+     */
+    public static String getGradeBucketLabel(int index) {
+        int lower = index * GRADE_BUCKET_WIDTH;
+        int upper = index == GRADE_BUCKETS - 1 ? MAX_GRADE : lower + GRADE_BUCKET_WIDTH - 1;
+        return String.format("%d.%02d-%d.%02d", lower / 100, lower % 100, upper / 100, upper % 100);
+    }
+
+    /**
+     * Returns the number of applicants graduating in each year, in ascending order of year.
+     */
+    public Map<Integer, Integer> getCohortCounts() {
+        return Collections.unmodifiableMap(cohortCounts);
+    }
+
+    /**
+     * Returns up to {@link #TOP_COUNT} institutions with the most applicants, with their number of applicants.
+     */
+    public List<Map.Entry<Institution, Integer>> getTopInstitutions() {
+        return top(institutionCounts, institution -> institution.value);
+    }
+
+    /**
+     * Returns up to {@link #TOP_COUNT} skills held by the most applicants, with their number of applicants.
+     */
+    public List<Map.Entry<Skill, Integer>> getTopSkills() {
+        return top(skillCounts, skill -> skill.skillName);
+    }
+
+    private static <T> List<Map.Entry<T, Integer>> top(Map<T, Integer> counts, Function<T, String> name) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<T, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(entry -> name.apply(entry.getKey())))
+                .limit(TOP_COUNT)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApplicantStatistics)) {
+            return false;
+        }
+
+        ApplicantStatistics otherStatistics = (ApplicantStatistics) other;
+        return total == otherStatistics.total
+                && Arrays.equals(statusCounts, otherStatistics.statusCounts)
+                && Arrays.equals(gradeCounts, otherStatistics.gradeCounts)
+                && cohortCounts.equals(otherStatistics.cohortCounts)
+                && institutionCounts.equals(otherStatistics.institutionCounts)
+                && skillCounts.equals(otherStatistics.skillCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(total).append(" applicants");
+        for (Status status : STATUSES) {
+            builder.append("; ").append(status).append(": ").append(getStatusCount(status));
+        }
+        return builder.toString();
+    }
+}
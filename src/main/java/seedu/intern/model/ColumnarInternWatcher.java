@@ -0,0 +1,301 @@
+package seedu.intern.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus;
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+import seedu.intern.model.applicant.Course;
+import seedu.intern.model.applicant.Email;
+import seedu.intern.model.applicant.Grade;
+import seedu.intern.model.applicant.GraduationYearMonth;
+import seedu.intern.model.applicant.Institution;
+import seedu.intern.model.applicant.Job;
+import seedu.intern.model.applicant.Name;
+import seedu.intern.model.applicant.Phone;
+import seedu.intern.model.skills.Skill;
+
+/**
+ * An immutable snapshot of an intern watcher that stores its applicants column-wise, for analytics-style filtering
+ * and aggregation.
+ * Statuses, grades and graduation dates are kept in primitive arrays, and institutions, courses and jobs are
+ * dictionary-encoded, so that filters and aggregates are tight loops over primitive arrays.
+ * {@code Applicant} objects are only created as views when rows are read through {@link #getApplicantList()}.
+ */
+public class ColumnarInternWatcher implements ReadOnlyInternWatcher {
+
+    private static final Status[] STATUSES = Status.values();
+
+    private final int size;
+
+    // Columns used by filters and aggregates
+    private final byte[] statuses;
+    private final short[] grades;
+    private final int[] graduations;
+    private final int[] institutionIds;
+    private final int[] courseIds;
+    private final int[] jobIds;
+
+    // Columns only used to create applicant views
+    private final int[] ids;
+    private final Name[] names;
+    private final Phone[] phones;
+    private final Email[] emails;
+    private final int[] gradeIds;
+    private final int[] graduationIds;
+    private final Skill[][] skills;
+
+    private final Dictionary<Institution> institutionDictionary = new Dictionary<>();
+    private final Dictionary<Course> courseDictionary = new Dictionary<>();
+    private final Dictionary<Job> jobDictionary = new Dictionary<>();
+    private final Dictionary<Grade> gradeDictionary = new Dictionary<>();
+    private final Dictionary<GraduationYearMonth> graduationDictionary = new Dictionary<>();
+
+    private final ObservableList<Applicant> applicantViews;
+
+    /**
+     * Creates a {@code ColumnarInternWatcher} with the applicants in {@code toBeCopied}.
+     */
+    public ColumnarInternWatcher(ReadOnlyInternWatcher toBeCopied) {
+        requireNonNull(toBeCopied);
+        List<Applicant> applicants = toBeCopied.getApplicantList();
+        size = applicants.size();
+
+        statuses = new byte[size];
+        grades = new short[size];
+        graduations = new int[size];
+        institutionIds = new int[size];
+        courseIds = new int[size];
+        jobIds = new int[size];
+        ids = new int[size];
+        names = new Name[size];
+        phones = new Phone[size];
+        emails = new Email[size];
+        gradeIds = new int[size];
+        graduationIds = new int[size];
+        skills = new Skill[size][];
+
+        for (int row = 0; row < size; row++) {
+            Applicant applicant = applicants.get(row);
+            statuses[row] = (byte) applicant.getApplicationStatus().value.ordinal();
+            grades[row] = toHundredths(applicant.getGrade());
+            graduations[row] = toMonths(applicant.getGraduationYearMonth());
+            institutionIds[row] = institutionDictionary.idOf(applicant.getInstitution());
+            courseIds[row] = courseDictionary.idOf(applicant.getCourse());
+            jobIds[row] = jobDictionary.idOf(applicant.getJob());
+            ids[row] = applicant.getId();
+            names[row] = applicant.getName();
+            phones[row] = applicant.getPhone();
+            emails[row] = applicant.getEmail();
+            gradeIds[row] = gradeDictionary.idOf(applicant.getGrade());
+            graduationIds[row] = graduationDictionary.idOf(applicant.getGraduationYearMonth());
+            skills[row] = applicant.getSkills().toArray(new Skill[0]);
+        }
+
+        applicantViews = FXCollections.unmodifiableObservableList(FXCollections.observableList(new RowViews()));
+    }
+
+    /**
+     * Returns the number of applicants.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of applicants in each application status, indexed by the ordinal of the status.
+     */
+    public int[] countByStatus() {
+        int[] counts = new int[STATUSES.length];
+        for (int row = 0; row < size; row++) {
+            counts[statuses[row]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of applicants with a grade of at least {@code minimum}.
+     */
+    public int countWithGradeAtLeast(Grade minimum) {
+        requireNonNull(minimum);
+        short threshold = toHundredths(minimum);
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (grades[row] >= threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of applicants graduating before {@code graduationYearMonth}.
+     */
+    public int countGraduatingBefore(GraduationYearMonth graduationYearMonth) {
+        requireNonNull(graduationYearMonth);
+        int threshold = toMonths(graduationYearMonth);
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (graduations[row] < threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of applicants in each of {@code bucketCount} grade buckets that are {@code bucketWidth}
+     * hundredths of a grade point wide, from the lowest grades up. Grades above the last bucket are counted in it.
+     */
+    public int[] countByGradeBucket(int bucketWidth, int bucketCount) {
+        int[] counts = new int[bucketCount];
+        for (int row = 0; row < size; row++) {
+            counts[Math.min(grades[row] / bucketWidth, bucketCount - 1)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of applicants graduating in each year, in ascending order of year.
+     */
+    public Map<Integer, Integer> countByGraduationYear() {
+        Map<Integer, Integer> counts = new TreeMap<>();
+        for (int row = 0; row < size; row++) {
+            counts.merge(graduations[row] / 12, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of applicants holding each skill.
+     */
+    public Map<Skill, Integer> countBySkill() {
+        Map<Skill, Integer> counts = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            for (Skill skill : skills[row]) {
+                counts.merge(skill, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of applicants from each institution, in order of first appearance.
+     */
+    public Map<Institution, Integer> countByInstitution() {
+        return countByDictionaryId(institutionIds, institutionDictionary);
+    }
+
+    /**
+     * Returns the number of applicants of each course, in order of first appearance.
+     */
+    public Map<Course, Integer> countByCourse() {
+        return countByDictionaryId(courseIds, courseDictionary);
+    }
+
+    /**
+     * Returns the number of applicants applying for each job, in order of first appearance.
+     */
+    public Map<Job, Integer> countByJob() {
+        return countByDictionaryId(jobIds, jobDictionary);
+    }
+
+    /**
+     * Returns a newly created {@code Applicant} with the values in the given {@code row}.
+     */
+    public Applicant getApplicant(int row) {
+        Applicant applicant = new Applicant(names[row], phones[row], emails[row],
+                gradeDictionary.get(gradeIds[row]), institutionDictionary.get(institutionIds[row]),
+                courseDictionary.get(courseIds[row]), graduationDictionary.get(graduationIds[row]),
+                jobDictionary.get(jobIds[row]), new ApplicationStatus(STATUSES[statuses[row]]),
+                new HashSet<>(Arrays.asList(skills[row])));
+        return applicant.withId(ids[row]);
+    }
+
+    /**
+     * Returns an unmodifiable view of the applicants, which creates each {@code Applicant} as it is read.
+     */
+    @Override
+    public ObservableList<Applicant> getApplicantList() {
+        return applicantViews;
+    }
+
+    @Override
+    public String toString() {
+        return size + " applicants";
+    }
+
+    private <T> Map<T, Integer> countByDictionaryId(int[] column, Dictionary<T> dictionary) {
+        int[] counts = new int[dictionary.size()];
+        for (int row = 0; row < size; row++) {
+            counts[column[row]]++;
+        }
+
+        Map<T, Integer> countsByValue = new LinkedHashMap<>();
+        for (int id = 0; id < counts.length; id++) {
+            countsByValue.put(dictionary.get(id), counts[id]);
+        }
+        return countsByValue;
+    }
+
+    private static short toHundredths(Grade grade) {
+        return (short) grade.hundredths;
+    }
+
+    private static int toMonths(GraduationYearMonth graduationYearMonth) {
+        return graduationYearMonth.yearMonth.getYear() * 12 + graduationYearMonth.yearMonth.getMonthValue() - 1;
+    }
+
+    /**
+     * Lazily created applicant views over the rows.
+     */
+    private class RowViews extends AbstractList<Applicant> {
+        @Override
+        public Applicant get(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for size " + size);
+            }
+            return getApplicant(row);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Assigns consecutive ids, starting from 0, to distinct values.
+     */
+    private static class Dictionary<T> {
+        private final Map<T, Integer> ids = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        int idOf(T value) {
+            return ids.computeIfAbsent(value, unused -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+
+        T get(int id) {
+            return values.get(id);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
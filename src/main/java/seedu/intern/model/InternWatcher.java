@@ -2,10 +2,14 @@ package seedu.intern.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicantCounters;
 import seedu.intern.model.applicant.UniqueApplicantList;
 
 /**
@@ -53,7 +57,12 @@ public class InternWatcher implements ReadOnlyInternWatcher {
     public void resetData(ReadOnlyInternWatcher newData) {
         requireNonNull(newData);
 
-        setApplicants(newData.getApplicantList());
+        if (newData instanceof InternWatcher) {
+            // the applicants are already known to be unique, and their counters can be copied
+            applicants.setApplicants(((InternWatcher) newData).applicants);
+        } else {
+            setApplicants(newData.getApplicantList());
+        }
     }
 
     //// applicant-level operations
@@ -66,6 +75,20 @@ public class InternWatcher implements ReadOnlyInternWatcher {
         return applicants.contains(applicant);
     }
 
+    /**
+     * Returns the applicant with the given {@code id}, if it exists in the intern watcher.
+     */
+    public Optional<Applicant> getApplicantById(int id) {
+        return applicants.getById(id);
+    }
+
+    /**
+     * Returns the live counts of the applicants in the intern watcher.
+     */
+    public ApplicantCounters getApplicantCounters() {
+        return applicants.getCounters();
+    }
+
     /**
      * Adds a applicant to the intern watcher.
      * The applicant must not already exist in the intern watcher.
@@ -74,6 +97,14 @@ public class InternWatcher implements ReadOnlyInternWatcher {
         applicants.add(p);
     }
 
+    /**
+     * Adds all of {@code applicants} to the intern watcher as a single batch.
+     * The applicants must not already exist in the intern watcher, nor have the same identity as each other.
+     */
+    public void addApplicants(List<Applicant> applicants) {
+        this.applicants.addAll(applicants);
+    }
+
     /**
      * Replaces the given applicant {@code target} in the list with {@code editedApplicant}.
      * {@code target} must exist in the intern watcher.
@@ -94,6 +125,23 @@ public class InternWatcher implements ReadOnlyInternWatcher {
         applicants.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code InternWatcher} as a single batch.
+     * Every applicant in {@code keys} must exist in the intern watcher.
+     */
+    public void removeApplicants(Collection<Applicant> keys) {
+        applicants.removeAll(keys);
+    }
+
+    /**
+     * Replaces each applicant that is a key of {@code edits} with its mapped edited applicant as a single batch.
+     * Every key of {@code edits} must exist in the intern watcher.
+     * The edited applicants must not have the same identity as another applicant in the intern watcher.
+     */
+    public void replaceApplicants(Map<Applicant, Applicant> edits) {
+        applicants.replaceAll(edits);
+    }
+
     //// util methods
 
     @Override
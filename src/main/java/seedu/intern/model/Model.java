@@ -1,12 +1,16 @@
 package seedu.intern.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.intern.commons.core.GuiSettings;
 import seedu.intern.logic.commands.exceptions.CommandException;
 import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicantCounters;
 
 /**
  * The API of the Model component.
@@ -50,6 +54,12 @@ public interface Model {
      */
     void setInternWatcher(ReadOnlyInternWatcher internWatcher);
 
+    /**
+     * Replaces intern watcher data with the data in {@code InternWatcher} as its initial state, discarding the
+     * undo and redo history.
+     */
+    void loadInternWatcher(ReadOnlyInternWatcher internWatcher);
+
     /** Returns the InternWatcher */
     ReadOnlyInternWatcher getInternWatcher();
 
@@ -70,12 +80,24 @@ public interface Model {
      */
     void deleteApplicant(Applicant target);
 
+    /**
+     * Deletes all the given applicants in a single batch.
+     * The applicants must exist in the intern watcher.
+     */
+    void deleteApplicants(Collection<Applicant> targets);
+
     /**
      * Adds the given applicant.
      * {@code applicant} must not already exist in the intern watcher.
      */
     void addApplicant(Applicant applicant);
 
+    /**
+     * Adds all of the given applicants as a single batch.
+     * The applicants must not already exist in the intern watcher, nor have the same identity as each other.
+     */
+    void addApplicants(List<Applicant> applicants);
+
     /**
      * Replaces the given applicant {@code target} with {@code editedApplicant}.
      * {@code target} must exist in the intern watcher.
@@ -84,6 +106,24 @@ public interface Model {
      */
     void setApplicant(Applicant target, Applicant editedApplicant);
 
+    /**
+     * Replaces each applicant that is a key of {@code edits} with its mapped edited applicant in a single batch.
+     * Every key of {@code edits} must exist in the intern watcher.
+     * The edited applicants must not have the same identity as another existing applicant in the intern watcher.
+     */
+    void replaceApplicants(Map<Applicant, Applicant> edits);
+
+    /**
+     * Returns an empty {@code ApplicantEditBatch} over the current applicants, to stage edits in.
+     */
+    ApplicantEditBatch startEditBatch();
+
+    /**
+     * Applies all the edits staged in {@code batch} in a single pass, and saves the resulting state to the history
+     * once with {@code commitMessage}.
+     */
+    void commitEditBatch(ApplicantEditBatch batch, String commitMessage);
+
     /** Returns an unmodifiable view of the filtered applicant list */
     ObservableList<Applicant> getFilteredApplicantList();
 
@@ -97,6 +137,7 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered applicant list to filter by the given {@code predicate}.
+     * If {@code predicate} throws an exception, the list is left filtered as it was.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredApplicantList(Predicate<Applicant> predicate);
@@ -134,4 +175,26 @@ public interface Model {
      * Returns the toggle flag
      */
     boolean getIsToggle();
+
+    /**
+     * Displays the given statistics of the applicants.
+     */
+    void displayApplicantStatistics(ApplicantStatistics statistics);
+
+    /** Returns the statistics of the applicants to display */
+    ApplicantStatistics getApplicantStatistics();
+
+    /**
+     * Returns a column-wise snapshot of all the applicants for aggregating them, which is reused until they change.
+     */
+    ColumnarInternWatcher getColumnarInternWatcher();
+
+    /** Returns the live counts of all the applicants, which are kept up to date as applicants change */
+    ApplicantCounters getApplicantCounters();
+
+    /**
+     * Returns a new subscription to the changes made to the applicants from now on, such as by commands, undo and
+     * redo, for components that keep their own state in step with the applicants.
+     */
+    ApplicantChangeStream.Subscription subscribeToChanges();
 }
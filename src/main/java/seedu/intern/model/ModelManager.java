@@ -4,15 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.intern.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.intern.commons.core.GuiSettings;
 import seedu.intern.commons.core.LogsCenter;
 import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.model.ApplicantChangeEvent.Type;
 import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicantCounters;
 
 /**
  * Represents the in-memory model of the intern book data.
@@ -24,19 +32,33 @@ public class ModelManager implements Model {
     private final FilteredList<Applicant> filteredApplicants;
     private Applicant applicant;
     private boolean isToggle;
+    private ApplicantStatistics applicantStatistics;
+    // A column-wise snapshot of the applicants, or null if they have changed since it was taken
+    private ColumnarInternWatcher columnarInternWatcher;
+    private final ApplicantChangeStream changeStream = new ApplicantChangeStream();
 
     /**
      * Initializes a ModelManager with the given internWatcher and userPrefs.
      */
     public ModelManager(ReadOnlyInternWatcher internWatcher, ReadOnlyUserPrefs userPrefs) {
+        this(internWatcher, userPrefs, VersionedInternWatcher.UNLIMITED_STATES);
+    }
+
+    /**
+     * Initializes a ModelManager with the given internWatcher and userPrefs, that keeps up to {@code maxUndoStates}
+     * states of the intern watcher to undo to.
+     */
+    public ModelManager(ReadOnlyInternWatcher internWatcher, ReadOnlyUserPrefs userPrefs, int maxUndoStates) {
         super();
         requireAllNonNull(internWatcher, userPrefs);
 
-        logger.fine("Initializing with intern book: " + internWatcher + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with intern book: " + internWatcher + " and user prefs " + userPrefs);
 
-        this.internWatcher = new VersionedInternWatcher(internWatcher);
+        this.internWatcher = new VersionedInternWatcher(internWatcher, maxUndoStates);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredApplicants = new FilteredList<>(this.internWatcher.getApplicantList());
+        this.internWatcher.getApplicantList().addListener((ListChangeListener<Applicant>) change ->
+                columnarInternWatcher = null);
     }
 
     public ModelManager() {
@@ -83,6 +105,14 @@ public class ModelManager implements Model {
     @Override
     public void setInternWatcher(ReadOnlyInternWatcher internWatcher) {
         this.internWatcher.resetData(internWatcher);
+        publishReset();
+    }
+
+    @Override
+    public void loadInternWatcher(ReadOnlyInternWatcher internWatcher) {
+        this.internWatcher.resetData(internWatcher);
+        this.internWatcher.clearHistory();
+        publishReset();
     }
 
     @Override
@@ -98,12 +128,36 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteApplicant(Applicant target) {
+        Applicant removed = findStoredApplicant(target);
         internWatcher.removeApplicant(target);
+        if (changeStream.hasSubscribers()) {
+            changeStream.publish(Type.REMOVED, removed, null);
+        }
+    }
+
+    @Override
+    public void deleteApplicants(Collection<Applicant> targets) {
+        List<Applicant> removed = new ArrayList<>();
+        if (changeStream.hasSubscribers()) {
+            targets.forEach(target -> removed.add(findStoredApplicant(target)));
+        }
+        internWatcher.removeApplicants(targets);
+        removed.forEach(applicant -> changeStream.publish(Type.REMOVED, applicant, null));
     }
 
     @Override
     public void addApplicant(Applicant applicant) {
         internWatcher.addApplicant(applicant);
+        publishAdded(1);
+        updateFilteredApplicantList(PREDICATE_SHOW_ALL_APPLICANTS);
+    }
+
+    @Override
+    public void addApplicants(List<Applicant> applicants) {
+        requireNonNull(applicants);
+
+        internWatcher.addApplicants(applicants);
+        publishAdded(applicants.size());
         updateFilteredApplicantList(PREDICATE_SHOW_ALL_APPLICANTS);
     }
 
@@ -111,7 +165,34 @@ public class ModelManager implements Model {
     public void setApplicant(Applicant target, Applicant editedApplicant) {
         requireAllNonNull(target, editedApplicant);
 
+        Applicant before = findStoredApplicant(target);
         internWatcher.setApplicant(target, editedApplicant);
+        publishUpdated(before);
+    }
+
+    @Override
+    public void replaceApplicants(Map<Applicant, Applicant> edits) {
+        requireNonNull(edits);
+
+        List<Applicant> before = new ArrayList<>();
+        if (changeStream.hasSubscribers()) {
+            edits.keySet().forEach(target -> before.add(findStoredApplicant(target)));
+        }
+        internWatcher.replaceApplicants(edits);
+        before.forEach(this::publishUpdated);
+    }
+
+    @Override
+    public ApplicantEditBatch startEditBatch() {
+        return new ApplicantEditBatch(internWatcher.getApplicantList());
+    }
+
+    @Override
+    public void commitEditBatch(ApplicantEditBatch batch, String commitMessage) {
+        requireAllNonNull(batch, commitMessage);
+
+        replaceApplicants(batch.getEdits());
+        commitInternWatcher(commitMessage);
     }
 
     //=========== Filtered Applicant List Accessors =============================================================
@@ -128,7 +209,14 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredApplicantList(Predicate<Applicant> predicate) {
         requireNonNull(predicate);
-        filteredApplicants.setPredicate(predicate);
+        Predicate<? super Applicant> previousPredicate = filteredApplicants.getPredicate();
+        try {
+            filteredApplicants.setPredicate(predicate);
+        } catch (RuntimeException e) {
+            // the list may be partly filtered, so it is filtered again as it was
+            filteredApplicants.setPredicate(previousPredicate);
+            throw e;
+        }
     }
 
     @Override
@@ -159,12 +247,20 @@ public class ModelManager implements Model {
 
     @Override
     public String undoInternWatcher() throws CommandException {
-        return internWatcher.undo();
+        List<Applicant> before = changeStream.hasSubscribers()
+                ? new ArrayList<>(internWatcher.getApplicantList()) : List.of();
+        String undoneCommand = internWatcher.undo();
+        publishRestored(Type.UNDONE, before);
+        return undoneCommand;
     }
 
     @Override
     public String redoInternWatcher() throws CommandException {
-        return internWatcher.redo();
+        List<Applicant> before = changeStream.hasSubscribers()
+                ? new ArrayList<>(internWatcher.getApplicantList()) : List.of();
+        String redoneCommand = internWatcher.redo();
+        publishRestored(Type.REDONE, before);
+        return redoneCommand;
     }
 
     @Override
@@ -203,4 +299,100 @@ public class ModelManager implements Model {
         applicant = newApplicant;
     }
 
+    //=========== Statistics ======================================================================
+    @Override
+    public void displayApplicantStatistics(ApplicantStatistics statistics) {
+        requireNonNull(statistics);
+        applicantStatistics = statistics;
+    }
+
+    @Override
+    public ApplicantStatistics getApplicantStatistics() {
+        return applicantStatistics;
+    }
+
+    @Override
+    public ColumnarInternWatcher getColumnarInternWatcher() {
+        if (columnarInternWatcher == null) {
+            columnarInternWatcher = new ColumnarInternWatcher(internWatcher);
+        }
+        return columnarInternWatcher;
+    }
+
+    @Override
+    public ApplicantCounters getApplicantCounters() {
+        return internWatcher.getApplicantCounters();
+    }
+
+    //=========== Changes ==========================================================================
+    @Override
+    public ApplicantChangeStream.Subscription subscribeToChanges() {
+        return changeStream.subscribe();
+    }
+
+    /**
+     * Returns the applicant in the intern watcher with the same id as {@code applicant}, which is the applicant
+     * itself unless it is an equal copy.
+     */
+    private Applicant findStoredApplicant(Applicant applicant) {
+        return applicant.hasId() ? internWatcher.getApplicantById(applicant.getId()).orElse(applicant) : applicant;
+    }
+
+    /**
+     * Publishes the addition of the last {@code count} applicants in the intern watcher.
+     */
+    private void publishAdded(int count) {
+        if (!changeStream.hasSubscribers()) {
+            return;
+        }
+        List<Applicant> applicants = internWatcher.getApplicantList();
+        for (Applicant applicant : applicants.subList(applicants.size() - count, applicants.size())) {
+            changeStream.publish(Type.ADDED, null, applicant);
+        }
+    }
+
+    /**
+     * Publishes the update of {@code before} to the applicant now in the intern watcher with the same id.
+     */
+    private void publishUpdated(Applicant before) {
+        if (!changeStream.hasSubscribers()) {
+            return;
+        }
+        changeStream.publish(Type.UPDATED, before, internWatcher.getApplicantById(before.getId()).orElseThrow());
+    }
+
+    /**
+     * Publishes the replacement of all the applicants with those now in the intern watcher, as a single event rather
+     * than one per applicant, so that loading a large file does not push every other change out of the stream.
+     */
+    private void publishReset() {
+        if (!changeStream.hasSubscribers()) {
+            return;
+        }
+        changeStream.publish(Type.RESET, null, null);
+    }
+
+    /**
+     * Publishes an event of the given {@code type} for the restoring of a state from the history, followed by the
+     * changes from the applicants {@code before} it to those now in the intern watcher, matched by id.
+     */
+    private void publishRestored(Type type, List<Applicant> before) {
+        if (!changeStream.hasSubscribers()) {
+            return;
+        }
+        changeStream.publish(type, null, null);
+
+        Map<Integer, Applicant> removed = new LinkedHashMap<>();
+        before.forEach(applicant -> removed.put(applicant.getId(), applicant));
+        for (Applicant applicant : internWatcher.getApplicantList()) {
+            Applicant oldApplicant = removed.remove(applicant.getId());
+            if (oldApplicant == null) {
+                changeStream.publish(Type.ADDED, null, applicant);
+            } else if (oldApplicant != applicant && !oldApplicant.equals(applicant)) {
+                // the history shares the applicants that did not change, which saves comparing their fields
+                changeStream.publish(Type.UPDATED, oldApplicant, applicant);
+            }
+        }
+        removed.values().forEach(applicant -> changeStream.publish(Type.REMOVED, applicant, null));
+    }
 }
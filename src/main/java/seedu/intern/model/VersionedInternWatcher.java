@@ -6,6 +6,8 @@ import static seedu.intern.logic.commands.UndoCommand.MESSAGE_NO_UNDO;
 import java.util.ArrayList;
 import java.util.List;
 
+import static seedu.intern.commons.util.AppUtil.checkArgument;
+
 import seedu.intern.logic.commands.exceptions.CommandException;
 
 //Solution adapted from
@@ -16,17 +18,32 @@ import seedu.intern.logic.commands.exceptions.CommandException;
  *
  */
 public class VersionedInternWatcher extends InternWatcher {
+    /** The number of states kept when there is no limit, which is as many as can be. */
+    public static final int UNLIMITED_STATES = Integer.MAX_VALUE;
+
+    private final int maxStates;
     private List<ReadOnlyInternWatcher> watcherStateList;
     private List<String> commandHistory;
     private int currStatePointer;
 
     /**
-     * Initialises a VersionedInternWatcher with the initial state.
+     * Initialises a VersionedInternWatcher with the initial state, that keeps every state.
      * @param initialState
      */
     public VersionedInternWatcher(ReadOnlyInternWatcher initialState) {
+        this(initialState, UNLIMITED_STATES);
+    }
+
+    /**
+     * Initialises a VersionedInternWatcher with the initial state, that keeps up to {@code maxStates} states.
+     * Beyond that, the oldest states are discarded and cannot be undone to, so that a long run of commands does not
+     * keep a copy of the data for each of them.
+     */
+    public VersionedInternWatcher(ReadOnlyInternWatcher initialState, int maxStates) {
         super(initialState);
+        checkArgument(maxStates > 1, "At least two states must be kept to undo a command");
 
+        this.maxStates = maxStates;
         this.currStatePointer = 0;
         this.watcherStateList = new ArrayList<>();
         this.commandHistory = new ArrayList<>();
@@ -44,6 +61,22 @@ public class VersionedInternWatcher extends InternWatcher {
         watcherStateList.add(new InternWatcher(this));
         commandHistory.add(commitMessage);
         currStatePointer++;
+        if (watcherStateList.size() > maxStates) {
+            watcherStateList.remove(0);
+            commandHistory.remove(0);
+            currStatePointer--;
+        }
+    }
+
+    /**
+     * Discards all previous and undone states, making the current state the initial state.
+     */
+    public void clearHistory() {
+        watcherStateList.clear();
+        commandHistory.clear();
+        watcherStateList.add(new InternWatcher(this));
+        commandHistory.add("Initial State");
+        currStatePointer = 0;
     }
 
     /**
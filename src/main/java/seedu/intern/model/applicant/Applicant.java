@@ -2,24 +2,52 @@ package seedu.intern.model.applicant;
 
 import static seedu.intern.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.intern.commons.util.Interner;
 import seedu.intern.model.skills.Skill;
 
 /**
  * Represents an applicant in Intern Watcher.
  * Guarantees: details are present and not null,
  * field values are validated, immutable.
+ *
+ * To keep large numbers of applicants small in memory, the fields that many applicants have in common, such as the
+ * institution, job and skills, are shared instances, and the phone number is kept as a number.
  */
 public class Applicant {
 
+    /** Id of an applicant that has not been assigned an id by a {@code UniqueApplicantList} yet. */
+    public static final int UNASSIGNED_ID = 0;
+
     private static final String[] DEFAULT_ACADEMICS = { "", "", "", "" };
 
+    // Phone numbers with up to this many digits are packed into a long
+    private static final int MAX_PACKED_PHONE_DIGITS = 18;
+
+    private static final Interner<Grade> GRADES = new Interner<>();
+    private static final Interner<Institution> INSTITUTIONS = new Interner<>();
+    private static final Interner<Course> COURSES = new Interner<>();
+    private static final Interner<GraduationYearMonth> GRADUATION_YEAR_MONTHS = new Interner<>();
+    private static final Interner<Job> JOBS = new Interner<>();
+    private static final Interner<ApplicationStatus> STATUSES = new Interner<>();
+    private static final Interner<Skill> SKILLS = new Interner<>();
+    private static final Interner<SkillSet> SKILL_SETS = new Interner<>();
+
+    // Storage-assigned id, stable across edits. Not part of the applicant's identity or data fields.
+    private final int id;
+
+    // Cached, as all the fields hashed are immutable
+    private final int hashCode;
+
     // Identity fields
     private final Name name;
+    // The digits of the phone number after a leading 1, which keeps any leading zeros, or 0 if it is too long
+    private final long packedPhone;
+    // The phone number, if it is too long to be packed
     private final Phone phone;
     private final Email email;
 
@@ -30,8 +58,7 @@ public class Applicant {
     private final Course course;
     private final Job job;
     private final ApplicationStatus status;
-    private final Set<Skill> skills = new HashSet<>();
-
+    private final SkillSet skills;
 
     /**
      * Every field must be present and not null.
@@ -52,15 +79,68 @@ public class Applicant {
         requireAllNonNull(name, phone, email, grade, status, institution, course, graduationYearMonth, job, skills);
 
         this.name = name;
-        this.phone = phone;
+        this.packedPhone = packPhone(phone);
+        this.phone = packedPhone == 0 ? phone : null;
         this.email = email;
-        this.grade = grade;
-        this.institution = institution;
-        this.graduationYearMonth = graduationYearMonth;
-        this.job = job;
-        this.course = course;
-        this.status = status;
-        this.skills.addAll(skills);
+        this.grade = GRADES.intern(grade);
+        this.institution = INSTITUTIONS.intern(institution);
+        this.graduationYearMonth = GRADUATION_YEAR_MONTHS.intern(graduationYearMonth);
+        this.job = JOBS.intern(job);
+        this.course = COURSES.intern(course);
+        this.status = STATUSES.intern(status);
+        this.skills = internSkills(skills);
+        this.id = UNASSIGNED_ID;
+        this.hashCode = Objects.hash(name, phone, email, grade, institution, course,
+                graduationYearMonth, job, status, this.skills);
+    }
+
+    /**
+     * Creates a copy of {@code source} with the given {@code id}.
+     */
+    private Applicant(Applicant source, int id) {
+        this.name = source.name;
+        this.packedPhone = source.packedPhone;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.grade = source.grade;
+        this.institution = source.institution;
+        this.graduationYearMonth = source.graduationYearMonth;
+        this.job = source.job;
+        this.course = source.course;
+        this.status = source.status;
+        this.skills = source.skills;
+        this.id = id;
+        this.hashCode = source.hashCode;
+    }
+
+    /**
+     * Returns the digits of {@code phone} after a leading 1, or 0 if it has too many digits to fit in a long.
+     */
+    private static long packPhone(Phone phone) {
+        return phone.value.length() > MAX_PACKED_PHONE_DIGITS ? 0 : Long.parseLong("1" + phone.value);
+    }
+
+    private static SkillSet internSkills(Set<Skill> skills) {
+        List<Skill> sharedSkills = new ArrayList<>(skills.size());
+        for (Skill skill : skills) {
+            sharedSkills.add(SKILLS.intern(skill));
+        }
+        return SKILL_SETS.intern(SkillSet.of(sharedSkills));
+    }
+
+    /**
+     * Returns a copy of this applicant with the given {@code id}, or this applicant if it already has that id.
+     */
+    public Applicant withId(int id) {
+        return id == this.id ? this : new Applicant(this, id);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
     }
 
     public Name getName() {
@@ -79,8 +159,11 @@ public class Applicant {
         return course;
     }
 
+    /**
+     * Returns the phone number, which is created on each call unless it is too long to be packed.
+     */
     public Phone getPhone() {
-        return phone;
+        return phone != null ? phone : new Phone(Long.toString(packedPhone).substring(1));
     }
 
     public Email getEmail() {
@@ -109,11 +192,11 @@ public class Applicant {
     }
 
     /**
-     * Returns an immutable skill set, which throws {@code UnsupportedOperationException}
+     * Returns an immutable skill set ordered by skill name, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Skill> getSkills() {
-        return Collections.unmodifiableSet(skills);
+        return skills;
     }
 
     /**
@@ -132,6 +215,7 @@ public class Applicant {
     /**
      * Returns true if both applicants have the same identity and data fields.
      * This defines a stronger notion of equality between two applicants.
+     * The id of the applicants is not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -144,8 +228,14 @@ public class Applicant {
         }
 
         Applicant otherApplicant = (Applicant) other;
+        if (otherApplicant.hashCode != hashCode) {
+            // short circuit, as equal applicants always have equal hash codes
+            return false;
+        }
+
         return otherApplicant.getName().equals(getName())
-                && otherApplicant.getPhone().equals(getPhone())
+                && otherApplicant.packedPhone == packedPhone
+                && Objects.equals(otherApplicant.phone, phone)
                 && otherApplicant.getEmail().equals(getEmail())
                 && otherApplicant.getGrade().equals(getGrade())
                 && otherApplicant.getInstitution().equals(getInstitution())
@@ -158,9 +248,7 @@ public class Applicant {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, grade, institution, course,
-                graduationYearMonth, job, status, skills);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,143 @@
+package seedu.intern.model.applicant;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+
+/**
+ * Live counts of the applicants in a {@code UniqueApplicantList} by application status, job and institution.
+ * The counts are updated by the list as applicants are added, edited and removed, so reading them takes constant
+ * time however many applicants there are.
+ */
+public class ApplicantCounters {
+
+    private static final Status[] STATUSES = Status.values();
+
+    private int total;
+    private final int[] statusCounts = new int[STATUSES.length];
+    private final Map<Job, Integer> jobCounts = new HashMap<>();
+    private final Map<Institution, Integer> institutionCounts = new HashMap<>();
+
+    /**
+     * Counts {@code applicant}.
+     */
+    void add(Applicant applicant) {
+        total++;
+        statusCounts[applicant.getApplicationStatus().value.ordinal()]++;
+        jobCounts.merge(applicant.getJob(), 1, Integer::sum);
+        institutionCounts.merge(applicant.getInstitution(), 1, Integer::sum);
+    }
+
+    /**
+     * Stops counting {@code applicant}, which must have been counted.
+     */
+    void remove(Applicant applicant) {
+        total--;
+        statusCounts[applicant.getApplicationStatus().value.ordinal()]--;
+        decrement(jobCounts, applicant.getJob());
+        decrement(institutionCounts, applicant.getInstitution());
+    }
+
+    /**
+     * Replaces the counts with those in {@code other}.
+     */
+    void setTo(ApplicantCounters other) {
+        total = other.total;
+        System.arraycopy(other.statusCounts, 0, statusCounts, 0, statusCounts.length);
+        jobCounts.clear();
+        jobCounts.putAll(other.jobCounts);
+        institutionCounts.clear();
+        institutionCounts.putAll(other.institutionCounts);
+    }
+
+    /**
+     * Resets all counts to zero.
+     */
+    void clear() {
+        total = 0;
+        Arrays.fill(statusCounts, 0);
+        jobCounts.clear();
+        institutionCounts.clear();
+    }
+
+    private static <T> void decrement(Map<T, Integer> counts, T key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of applicants with {@code status}.
+     */
+    public int getStatusCount(Status status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    /**
+     * Returns the number of applicants applying for {@code job}.
+     */
+    public int getJobCount(Job job) {
+        return jobCounts.getOrDefault(job, 0);
+    }
+
+    /**
+     * Returns the number of applicants from {@code institution}.
+     */
+    public int getInstitutionCount(Institution institution) {
+        return institutionCounts.getOrDefault(institution, 0);
+    }
+
+    /**
+     * Returns the number of applicants applying for each job with at least one applicant.
+     */
+    public Map<Job, Integer> getJobCounts() {
+        return Collections.unmodifiableMap(jobCounts);
+    }
+
+    /**
+     * Returns the number of applicants from each institution with at least one applicant.
+     */
+    public Map<Institution, Integer> getInstitutionCounts() {
+        return Collections.unmodifiableMap(institutionCounts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApplicantCounters)) {
+            return false;
+        }
+
+        ApplicantCounters otherCounters = (ApplicantCounters) other;
+        return total == otherCounters.total
+                && Arrays.equals(statusCounts, otherCounters.statusCounts)
+                && jobCounts.equals(otherCounters.jobCounts)
+                && institutionCounts.equals(otherCounters.institutionCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (Status status : STATUSES) {
+            if (builder.length() > 0) {
+                builder.append(" | ");
+            }
+            builder.append(status).append(": ").append(getStatusCount(status));
+        }
+        return builder.toString();
+    }
+}
@@ -3,24 +3,15 @@ package seedu.intern.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.intern.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an applicant's application status in Intern Watcher.
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
  */
 public class ApplicationStatus {
     public enum Status {
-        APPLIED("#980000"), RECEIVED("#984200"), SCHEDULED("#986900"),
-        INTERVIEWED("#a77f03"), OFFERED("#0c8900"), ACCEPTED("#004b83"), REJECTED("#c4c4c4");
-
-        private final String colour;
-
-        private Status(String colour) {
-            this.colour = colour;
-        }
-
-        private Status() {
-            this.colour = "#000000";
-        }
+        APPLIED, RECEIVED, SCHEDULED, INTERVIEWED, OFFERED, ACCEPTED, REJECTED
     }
 
     public static final Status DEFAULT_STATUS = Status.APPLIED;
@@ -32,6 +23,7 @@ public class ApplicationStatus {
     public static final String VALIDATION_REGEX = Status.APPLIED.name() + "|" + Status.RECEIVED.name() + "|"
             + Status.SCHEDULED.name() + "|" + Status.INTERVIEWED.name() + "|" + Status.OFFERED.name() + "|"
             + Status.ACCEPTED.name() + "|" + Status.REJECTED.name();
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final Status value;
 
     /**
@@ -66,14 +58,7 @@ public class ApplicationStatus {
      * Returns true if a given string is a valid status.
      */
     public static boolean isValidStatus(String test) {
-        return test.matches(VALIDATION_REGEX);
-    }
-
-    /**
-     * Returns the colour each application status should be set to.
-     */
-    public String getColour() {
-        return value.colour;
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
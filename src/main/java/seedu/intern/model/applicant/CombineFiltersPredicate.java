@@ -38,8 +38,7 @@ public class CombineFiltersPredicate implements Predicate<Applicant> {
         Optional<Set<Skill>> skills = filterApplicantDescriptor.getSkills();
 
         grade.ifPresent(gradeContent ->
-                setResult(result && Float.compare(Float.parseFloat(applicant.getGrade().value),
-                                Float.parseFloat(gradeContent.value)) >= 0));
+                setResult(result && applicant.getGrade().isAtLeast(gradeContent)));
         institutions.ifPresent(institutionsContent ->
                 setResult(result && institutionsContent.stream().anyMatch(institution ->
                         StringUtil.containsWordIgnoreCase(applicant.getInstitution().value, institution.value))));
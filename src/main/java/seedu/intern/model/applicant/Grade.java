@@ -3,18 +3,26 @@ package seedu.intern.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.intern.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an applicant's grade in the Intern Watcher.
  * Guarantees: immutable; is valid as declared in {@link #isValidGrade(String)}
+ *
+ * The grade is also kept as a whole number of hundredths, which grades are compared by. Grades that differ only in
+ * leading zeros, such as {@code 04.00} and {@code 4.00}, compare as the same grade but are not equal.
  */
-public class Grade {
+public class Grade implements Comparable<Grade> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Grade should be 2dp, from 0.00 to 5.00 inclusive";
 
     public static final String VALIDATION_REGEX = "[0-5]+(\\.[0-9][0-9])";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
+    /** The grade in hundredths, e.g. 450 for a grade of 4.50. */
+    public final int hundredths;
 
     /**
      * Constructs a {@code Grade}.
@@ -25,19 +33,47 @@ public class Grade {
         requireNonNull(grade);
         checkArgument(isValidGrade(grade), MESSAGE_CONSTRAINTS);
         value = grade;
+        hundredths = toHundredths(grade);
+    }
+
+    /**
+     * Returns the valid grade {@code grade} in hundredths.
+     */
+    private static int toHundredths(String grade) {
+        int point = grade.indexOf('.');
+        return Integer.parseInt(grade.substring(0, point)) * 100 + Integer.parseInt(grade.substring(point + 1));
     }
 
     /**
      * Returns true if a given string is a valid grade name.
      */
     public static boolean isValidGrade(String test) {
-        return test.matches(VALIDATION_REGEX) && isValidGradeRange(test);
+        return VALIDATION_PATTERN.matcher(test).matches() && isValidGradeRange(test);
     }
 
     public static boolean isValidGradeRange(String test) {
         return Float.parseFloat(test) <= 5.00 && Float.parseFloat(test) >= 0;
     }
 
+    /**
+     * Returns true if this grade is at least {@code minimum}.
+     */
+    public boolean isAtLeast(Grade minimum) {
+        return hundredths >= minimum.hundredths;
+    }
+
+    /**
+     * Returns true if this grade is from {@code lowest} to {@code highest} inclusive.
+     */
+    public boolean isWithin(Grade lowest, Grade highest) {
+        return hundredths >= lowest.hundredths && hundredths <= highest.hundredths;
+    }
+
+    @Override
+    public int compareTo(Grade other) {
+        return Integer.compare(hundredths, other.hundredths);
+    }
+
     @Override
     public String toString() {
         return value;
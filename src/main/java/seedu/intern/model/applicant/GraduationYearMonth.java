@@ -5,6 +5,7 @@ import static seedu.intern.commons.util.AppUtil.checkArgument;
 
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
 
 /**
  * Represents an applicant's GraduationYearMonth in Intern Watcher.
@@ -16,6 +17,7 @@ public class GraduationYearMonth {
             "Expected Graduation Year Month should be valid, eg. after 01/2020, and be of format MM/yyyy";
 
     public static final String VALIDATION_REGEX = "[0-9]{2}/[0-9]{4}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MM/yyyy");
 
@@ -29,24 +31,29 @@ public class GraduationYearMonth {
     public GraduationYearMonth(String graduationYearMonth) {
         requireNonNull(graduationYearMonth);
         checkArgument(isValidGraduationYearMonth(graduationYearMonth), MESSAGE_CONSTRAINTS);
-        yearMonth = YearMonth.parse(graduationYearMonth, DATE_TIME_FORMATTER);
+        yearMonth = YearMonth.of(parseYear(graduationYearMonth), parseMonth(graduationYearMonth));
     }
 
     /**
      * Returns true if a given string is a valid grade name.
      */
     public static boolean isValidGraduationYearMonth(String test) {
-        int monthHolder;
-        int yearHolder;
-        if (test.matches(VALIDATION_REGEX)) {
-            monthHolder = Integer.parseInt(test.split("/")[0]);
-            yearHolder = Integer.parseInt(test.split("/")[1]);
-        } else {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             return false;
         }
 
         // month in between 1-12 inclusive and year lower bound of 2020
-        return test.matches(VALIDATION_REGEX) && monthHolder >= 1 && monthHolder <= 12 && yearHolder >= 2020;
+        int month = parseMonth(test);
+        return month >= 1 && month <= 12 && parseYear(test) >= 2020;
+    }
+
+    // The month and year are at fixed positions of a string matching VALIDATION_REGEX
+    private static int parseMonth(String graduationYearMonth) {
+        return Integer.parseInt(graduationYearMonth, 0, 2, 10);
+    }
+
+    private static int parseYear(String graduationYearMonth) {
+        return Integer.parseInt(graduationYearMonth, 3, 7, 10);
     }
 
     @Override
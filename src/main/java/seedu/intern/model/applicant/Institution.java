@@ -3,6 +3,8 @@ package seedu.intern.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.intern.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an applicant's institution in Intern Watcher.
  * Guarantees: immutable; is valid as declared in {@link #isValidInstitution(String)}
@@ -17,6 +19,7 @@ public class Institution {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -35,7 +38,7 @@ public class Institution {
      * Returns true if a given string is a valid institution name.
      */
     public static boolean isValidInstitution(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.intern.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.intern.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Job in Intern Watcher.
  * Guarantees: immutable; name is valid as declared in {@link #isValidJobName(String)}
@@ -12,6 +14,7 @@ public class Job {
     public static final String MESSAGE_CONSTRAINTS =
             "Job Names should only contain alphabet characters and spaces, and it should not be blank";
     public static final String VALIDATION_REGEX = "[a-zA-Z][a-zA-Z ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String jobName;
 
@@ -30,7 +33,7 @@ public class Job {
      * Returns true if a given string is a valid job name.
      */
     public static boolean isValidJobName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
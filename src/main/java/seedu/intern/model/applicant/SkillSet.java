@@ -0,0 +1,111 @@
+package seedu.intern.model.applicant;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import seedu.intern.model.skills.Skill;
+
+/**
+ * An immutable set of skills kept in an array ordered by name, which takes up far less memory than a
+ * {@code HashSet} for the handful of skills an applicant has. Finding a skill scans the array.
+ */
+class SkillSet extends AbstractSet<Skill> {
+
+    static final SkillSet EMPTY = new SkillSet(new Skill[0]);
+
+    private static final Comparator<Skill> SKILL_ORDER = Comparator.comparing(skill -> skill.skillName);
+
+    private final Skill[] skills;
+
+    private SkillSet(Skill[] skills) {
+        this.skills = skills;
+    }
+
+    /**
+     * Returns a set of the distinct skills in {@code skills}.
+     */
+    static SkillSet of(Collection<Skill> skills) {
+        if (skills.isEmpty()) {
+            return EMPTY;
+        }
+        Skill[] distinctSkills = new LinkedHashSet<>(skills).toArray(new Skill[0]);
+        Arrays.sort(distinctSkills, SKILL_ORDER);
+        return new SkillSet(distinctSkills);
+    }
+
+    @Override
+    public int size() {
+        return skills.length;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        for (Skill skill : skills) {
+            if (skill.equals(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Skill> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < skills.length;
+            }
+
+            @Override
+            public Skill next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return skills[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Skill skill) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Skill> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Skill> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
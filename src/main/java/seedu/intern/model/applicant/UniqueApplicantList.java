@@ -3,8 +3,15 @@ package seedu.intern.model.applicant;
 import static java.util.Objects.requireNonNull;
 import static seedu.intern.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +26,11 @@ import seedu.intern.model.applicant.exceptions.DuplicateApplicantException;
  * applicant uses Applicant#equals(Object) so as to ensure that the applicant with exactly the same fields will be
  * removed.
  *
+ * Every applicant in the list is assigned an id that is unique within the list and kept across edits. The list
+ * maintains an index from ids to positions, so that applicants taken from the list can be located in constant time.
+ *
+ * The list also keeps {@code ApplicantCounters} up to date with every change, instead of recounting on demand.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Applicant#isSameApplicant(Applicant)
@@ -28,6 +40,11 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     private final ObservableList<Applicant> internalList = FXCollections.observableArrayList();
     private final ObservableList<Applicant> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Integer, Integer> idToIndex = new HashMap<>();
+    private int nextId = Applicant.UNASSIGNED_ID + 1;
+    // Sum of the hash codes of the applicants, kept up to date on every change to cheaply tell lists apart
+    private int contentHash = 0;
+    private final ApplicantCounters counters = new ApplicantCounters();
 
     /**
      * Returns true if the list contains an equivalent applicant as the given argument.
@@ -46,7 +63,51 @@ public class UniqueApplicantList implements Iterable<Applicant> {
         if (contains(toAdd)) {
             throw new DuplicateApplicantException();
         }
-        internalList.add(toAdd);
+        Applicant applicantWithId = toAdd.hasId() && !idToIndex.containsKey(toAdd.getId())
+                ? toAdd
+                : toAdd.withId(nextId);
+        nextId = Math.max(nextId, applicantWithId.getId() + 1);
+        idToIndex.put(applicantWithId.getId(), internalList.size());
+        internalList.add(applicantWithId);
+        contentHash += applicantWithId.hashCode();
+        counters.add(applicantWithId);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in a single batch.
+     * Listeners are notified of the addition through one aggregated change.
+     * The applicants must not already exist in the list, nor have the same identity as each other, otherwise the
+     * list is left unchanged.
+     */
+    public void addAll(List<Applicant> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Applicant> combined = new ArrayList<>(internalList.size() + toAdd.size());
+        combined.addAll(internalList);
+        combined.addAll(toAdd);
+        if (!applicantsAreUnique(combined)) {
+            throw new DuplicateApplicantException();
+        }
+
+        List<Applicant> applicantsWithIds = new ArrayList<>(toAdd.size());
+        for (Applicant applicant : toAdd) {
+            Applicant applicantWithId = applicant.hasId() && !idToIndex.containsKey(applicant.getId())
+                    ? applicant
+                    : applicant.withId(nextId);
+            nextId = Math.max(nextId, applicantWithId.getId() + 1);
+            idToIndex.put(applicantWithId.getId(), internalList.size() + applicantsWithIds.size());
+            applicantsWithIds.add(applicantWithId);
+            contentHash += applicantWithId.hashCode();
+            counters.add(applicantWithId);
+        }
+        internalList.addAll(applicantsWithIds);
+    }
+
+    /**
+     * Returns the applicant with the given {@code id}, if it is in the list.
+     */
+    public Optional<Applicant> getById(int id) {
+        Integer index = idToIndex.get(id);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -57,7 +118,7 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     public void setApplicant(Applicant target, Applicant editedApplicant) {
         requireAllNonNull(target, editedApplicant);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ApplicantNotFoundException();
         }
@@ -66,7 +127,10 @@ public class UniqueApplicantList implements Iterable<Applicant> {
             throw new DuplicateApplicantException();
         }
 
-        internalList.set(index, editedApplicant);
+        Applicant replaced = internalList.set(index, editedApplicant.withId(internalList.get(index).getId()));
+        contentHash += editedApplicant.hashCode() - replaced.hashCode();
+        counters.remove(replaced);
+        counters.add(editedApplicant);
     }
 
     /**
@@ -75,14 +139,93 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      */
     public void remove(Applicant toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ApplicantNotFoundException();
         }
+        Applicant removed = internalList.remove(index);
+        idToIndex.remove(removed.getId());
+        reindexFrom(index);
+        contentHash -= removed.hashCode();
+        counters.remove(removed);
     }
 
+    /**
+     * Removes all the equivalent applicants in {@code toRemove} from the list in a single pass.
+     * Listeners are notified of the removal through one aggregated change.
+     * Every applicant in {@code toRemove} must exist in the list, otherwise the list is left unchanged.
+     */
+    public void removeAll(Collection<Applicant> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Applicant> targets = new HashSet<>(toRemove);
+
+        int found = 0;
+        for (Applicant applicant : internalList) {
+            if (targets.contains(applicant)) {
+                found++;
+            }
+        }
+        if (found != targets.size()) {
+            throw new ApplicantNotFoundException();
+        }
+
+        internalList.removeAll(targets);
+        reindexFrom(0);
+        for (Applicant removed : targets) {
+            contentHash -= removed.hashCode();
+            counters.remove(removed);
+        }
+    }
+
+    /**
+     * Replaces each applicant that is a key of {@code edits} with its mapped edited applicant, in a single pass.
+     * Listeners are notified of the replacement through one aggregated change.
+     * Every key of {@code edits} must exist in the list, and the resulting list must not contain duplicate
+     * applicants, otherwise the list is left unchanged.
+     */
+    public void replaceAll(Map<Applicant, Applicant> edits) {
+        requireNonNull(edits);
+        requireAllNonNull(edits.values());
+
+        List<Applicant> replacement = new ArrayList<>(internalList.size());
+        int replaced = 0;
+        int hashDelta = 0;
+        for (Applicant applicant : internalList) {
+            Applicant editedApplicant = edits.get(applicant);
+            if (editedApplicant == null) {
+                replacement.add(applicant);
+            } else {
+                replacement.add(editedApplicant.withId(applicant.getId()));
+                replaced++;
+                hashDelta += editedApplicant.hashCode() - applicant.hashCode();
+            }
+        }
+        if (replaced != edits.size()) {
+            throw new ApplicantNotFoundException();
+        }
+        if (!applicantsAreUnique(replacement)) {
+            throw new DuplicateApplicantException();
+        }
+
+        internalList.setAll(replacement);
+        contentHash += hashDelta;
+        edits.forEach((target, editedApplicant) -> {
+            counters.remove(target);
+            counters.add(editedApplicant);
+        });
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * The counters of {@code replacement} are copied rather than recounted.
+     */
     public void setApplicants(UniqueApplicantList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindexFrom(0);
+        contentHash = replacement.contentHash;
+        counters.setTo(replacement.counters);
+        nextId = Math.max(nextId, replacement.nextId);
     }
 
     /**
@@ -95,7 +238,21 @@ public class UniqueApplicantList implements Iterable<Applicant> {
             throw new DuplicateApplicantException();
         }
 
-        internalList.setAll(applicants);
+        internalList.setAll(withUniqueIds(applicants));
+        reindexFrom(0);
+        contentHash = 0;
+        counters.clear();
+        for (Applicant applicant : internalList) {
+            contentHash += applicant.hashCode();
+            counters.add(applicant);
+        }
+    }
+
+    /**
+     * Returns the live counts of the applicants in the list.
+     */
+    public ApplicantCounters getCounters() {
+        return counters;
     }
 
     /**
@@ -112,25 +269,85 @@ public class UniqueApplicantList implements Iterable<Applicant> {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof UniqueApplicantList // instanceof handles nulls
-                        && internalList.equals(((UniqueApplicantList) other).internalList));
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+
+        if (!(other instanceof UniqueApplicantList)) { // instanceof handles nulls
+            return false;
+        }
+
+        UniqueApplicantList otherList = (UniqueApplicantList) other;
+        // short circuit if the contents cannot be equal, before comparing applicant by applicant
+        return internalList.size() == otherList.internalList.size()
+                && contentHash == otherList.contentHash
+                && internalList.equals(otherList.internalList);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return contentHash;
+    }
+
+    /**
+     * Returns the position of the applicant equal to {@code applicant} in the list, or -1 if there is none.
+     * The position is looked up by id when {@code applicant} has one, falling back to a scan of the list otherwise.
+     */
+    private int indexOf(Applicant applicant) {
+        if (applicant.hasId()) {
+            Integer index = idToIndex.get(applicant.getId());
+            if (index != null && internalList.get(index).equals(applicant)) {
+                return index;
+            }
+        }
+        return internalList.indexOf(applicant);
+    }
+
+    /**
+     * Updates the id index for the applicants from position {@code start} onwards.
+     * The whole index is rebuilt if {@code start} is 0.
+     */
+    private void reindexFrom(int start) {
+        if (start == 0) {
+            idToIndex.clear();
+        }
+        for (int i = start; i < internalList.size(); i++) {
+            idToIndex.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns {@code applicants} with ids assigned to the applicants without one, or with an id already used by an
+     * earlier applicant in {@code applicants}.
+     */
+    private List<Applicant> withUniqueIds(List<Applicant> applicants) {
+        Set<Integer> usedIds = new HashSet<>();
+        for (Applicant applicant : applicants) {
+            nextId = Math.max(nextId, applicant.getId() + 1);
+        }
+
+        List<Applicant> applicantsWithIds = new ArrayList<>(applicants.size());
+        for (Applicant applicant : applicants) {
+            if (applicant.hasId() && usedIds.add(applicant.getId())) {
+                applicantsWithIds.add(applicant);
+            } else {
+                Applicant applicantWithId = applicant.withId(nextId++);
+                usedIds.add(applicantWithId.getId());
+                applicantsWithIds.add(applicantWithId);
+            }
+        }
+        return applicantsWithIds;
     }
 
     /**
      * Returns true if {@code applicants} contains only unique applicants.
      */
     private boolean applicantsAreUnique(List<Applicant> applicants) {
-        for (int i = 0; i < applicants.size() - 1; i++) {
-            for (int j = i + 1; j < applicants.size(); j++) {
-                if (applicants.get(i).isSameApplicant(applicants.get(j))) {
-                    return false;
-                }
+        // applicants have the same identity exactly when their names are equal
+        Set<Name> names = new HashSet<>();
+        for (Applicant applicant : applicants) {
+            if (!names.add(applicant.getName())) {
+                return false;
             }
         }
         return true;
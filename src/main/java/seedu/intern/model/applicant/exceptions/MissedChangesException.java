@@ -0,0 +1,21 @@
+package seedu.intern.model.applicant.exceptions;
+
+/**
+ * Signals that a subscriber fell so far behind the changes to the applicants that some of the changes it had not
+ * read were discarded.
+ */
+public class MissedChangesException extends Exception {
+    private final long missedChanges;
+
+    /**
+     * @param missedChanges The number of changes that were discarded before the subscriber read them.
+     */
+    public MissedChangesException(long missedChanges) {
+        super("Subscriber missed " + missedChanges + " changes to the applicants");
+        this.missedChanges = missedChanges;
+    }
+
+    public long getMissedChanges() {
+        return missedChanges;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.intern.model.skills;
 import static java.util.Objects.requireNonNull;
 import static seedu.intern.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Skill in Intern Watcher.
  * Guarantees: immutable; name is valid as declared in {@link #isValidSkillName(String)}
@@ -12,6 +14,7 @@ public class Skill {
     public static final String MESSAGE_CONSTRAINTS = "Skill names should only contain alphabet characters, "
             + "spaces and '+#' symbols, and it should not be blank";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+[\\p{Alnum} ]*[+#]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String skillName;
 
@@ -30,7 +33,7 @@ public class Skill {
      * Returns true if a given string is a valid skill name.
      */
     public static boolean isValidSkillName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
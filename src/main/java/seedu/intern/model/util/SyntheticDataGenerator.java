@@ -0,0 +1,226 @@
+package seedu.intern.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus;
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+import seedu.intern.model.applicant.Course;
+import seedu.intern.model.applicant.Email;
+import seedu.intern.model.applicant.Grade;
+import seedu.intern.model.applicant.GraduationYearMonth;
+import seedu.intern.model.applicant.Institution;
+import seedu.intern.model.applicant.Job;
+import seedu.intern.model.applicant.Name;
+import seedu.intern.model.applicant.Phone;
+import seedu.intern.model.skills.Skill;
+
+/**
+ * Generates any number of distinct applicants, for measuring performance with realistically sized data.
+ *
+ * The static methods scale the sample applicants in {@code SampleDataUtil}: the applicants generated for a given
+ * count are always the same, each taking its institution, course and job from a sample applicant in turn, while its
+ * grade, graduation date, application status and extra skills vary evenly.
+ *
+ * A generator instance instead draws applicants at random from realistic distributions, the same applicants for
+ * the same seed: a few institutions, courses, jobs and skills are far more common than the rest (following Zipf's
+ * law), grades follow a bell curve, and fewer applicants reach each later stage of the application funnel.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Status[] STATUSES = Status.values();
+    private static final String[] EXTRA_SKILLS = {"Java", "Python", "SQL", "Excel", "Git", "Docker", "C++", "React"};
+    private static final int MAX_GRADE_HUNDREDTHS = 500;
+    private static final int FIRST_GRADUATION_YEAR = 2020;
+    private static final int GRADUATION_YEARS = 6;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Muhammad", "Priya", "Jun Jie", "Sarah", "Daniel", "Nur Aisyah", "Ethan", "Hui Min", "Ryan", "Chloe", "Arjun"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Yeoh", "Kumar", "Rahman", "Chen",
+        "Goh", "Li", "Ibrahim", "Balakrishnan", "Oliveiro", "Yu", "Teo", "Chua", "Smith"};
+    private static final String[] INSTITUTIONS = {"NUS", "NTU", "SMU", "SUTD", "SUSS", "SIT", "Ngee Ann Poly",
+        "Temasek Poly", "Singapore Poly", "Republic Poly", "Nanyang Poly", "YALE", "MIT", "Stanford", "Imperial",
+        "Cambridge", "Oxford", "UCL", "Tsinghua", "Peking", "HKU", "Melbourne", "Sydney", "Toronto", "Waterloo",
+        "Berkeley", "CMU", "ETH Zurich", "TU Munich", "KAIST"};
+    private static final String[] COURSES = {"Computer Science", "Information Systems", "Computer Engineering",
+        "Business Analytics", "Electrical Engineering", "Mathematics", "Data Science", "Economics",
+        "Mechanical Engineering", "Accountancy", "Statistics", "Physics"};
+    private static final String[] JOBS = {"Software Engineer", "Data Analyst", "Product Manager", "Frontend Developer",
+        "Backend Developer", "Data Scientist", "QA Engineer", "DevOps Engineer", "UX Designer", "Business Analyst",
+        "Hardware Engineer", "Finance Manager", "Front Desk", "Account"};
+    private static final String[] SKILLS = {"Java", "Python", "SQL", "JavaScript", "HTML", "CSS", "Git", "Excel",
+        "C++", "C#", "React", "Docker", "AWS", "Kotlin", "Go", "Rust", "TypeScript", "Linux", "Figma", "Tableau",
+        "Spring", "Node", "Kubernetes", "Swift", "R", "MATLAB", "PowerBI", "Office", "Scala", "Haskell"};
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final int MAX_SKILLS = 6;
+    private static final double MEAN_GRADE = 3.6;
+    private static final double GRADE_STANDARD_DEVIATION = 0.6;
+    private static final int GRADUATION_MONTHS = 8 * 12;
+
+    /** Percentage of applicants at each application status, in the order of {@code Status}. */
+    private static final int[] STATUS_PERCENTAGES = {40, 20, 12, 10, 5, 3, 10};
+
+    private static final ZipfDistribution INSTITUTION_DISTRIBUTION = new ZipfDistribution(INSTITUTIONS.length);
+    private static final ZipfDistribution COURSE_DISTRIBUTION = new ZipfDistribution(COURSES.length);
+    private static final ZipfDistribution JOB_DISTRIBUTION = new ZipfDistribution(JOBS.length);
+    private static final ZipfDistribution SKILL_DISTRIBUTION = new ZipfDistribution(SKILLS.length);
+
+    private final Random random;
+    private int generated;
+
+    /**
+     * Creates a generator of random applicants, which generates the same applicants for the same {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns the next random applicant, whose name differs from every applicant generated before it.
+     */
+    public Applicant nextApplicant() {
+        int index = generated++;
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String emailName = (firstName + "." + lastName).toLowerCase(Locale.ROOT).replace(' ', '.');
+
+        Set<Skill> skills = new HashSet<>();
+        int skillCount = 1 + random.nextInt(MAX_SKILLS);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(new Skill(SKILLS[SKILL_DISTRIBUTION.sample(random)]));
+        }
+
+        int gradeHundredths = (int) Math.round(
+                (MEAN_GRADE + random.nextGaussian() * GRADE_STANDARD_DEVIATION) * 100);
+        gradeHundredths = Math.max(0, Math.min(MAX_GRADE_HUNDREDTHS, gradeHundredths));
+        int month = random.nextInt(GRADUATION_MONTHS);
+
+        return new Applicant(
+                new Name(firstName + " " + lastName + " " + index),
+                new Phone(String.valueOf(80000000 + random.nextInt(20000000))),
+                new Email(emailName + index + "@example.com"),
+                new Grade(String.format(Locale.ROOT, "%d.%02d", gradeHundredths / 100, gradeHundredths % 100)),
+                new Institution(INSTITUTIONS[INSTITUTION_DISTRIBUTION.sample(random)]),
+                new Course(COURSES[COURSE_DISTRIBUTION.sample(random)]),
+                new GraduationYearMonth(String.format(Locale.ROOT, "%02d/%d",
+                        month % 12 + 1, FIRST_GRADUATION_YEAR + month / 12)),
+                new Job(JOBS[JOB_DISTRIBUTION.sample(random)]),
+                new ApplicationStatus(nextStatus()),
+                skills);
+    }
+
+    /**
+     * Returns the next {@code count} random applicants.
+     */
+    public List<Applicant> nextApplicants(int count) {
+        List<Applicant> applicants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            applicants.add(nextApplicant());
+        }
+        return applicants;
+    }
+
+    /**
+     * Returns the next {@code count} random applicants as a read-only intern watcher.
+     * Unlike an {@code InternWatcher}, it does not index the applicants, so it is cheap to create for saving large
+     * data files.
+     */
+    public ReadOnlyInternWatcher nextReadOnlyInternWatcher(int count) {
+        ObservableList<Applicant> applicants = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(nextApplicants(count)));
+        return () -> applicants;
+    }
+
+    private Status nextStatus() {
+        int percentile = random.nextInt(100);
+        for (int i = 0; i < STATUS_PERCENTAGES.length; i++) {
+            percentile -= STATUS_PERCENTAGES[i];
+            if (percentile < 0) {
+                return STATUSES[i];
+            }
+        }
+        return STATUSES[STATUSES.length - 1];
+    }
+
+    /**
+     * Returns {@code count} applicants with unique names.
+     */
+    public static List<Applicant> generateApplicants(int count) {
+        Applicant[] samples = SampleDataUtil.getSampleApplicants();
+        List<Applicant> applicants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            applicants.add(generateApplicant(samples[i % samples.length], i));
+        }
+        return applicants;
+    }
+
+    /**
+     * Returns an {@code InternWatcher} with {@code count} applicants.
+     */
+    public static InternWatcher generateInternWatcher(int count) {
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.setApplicants(generateApplicants(count));
+        return internWatcher;
+    }
+
+    /**
+     * Returns the {@code index}-th applicant, based on {@code sample}.
+     */
+    private static Applicant generateApplicant(Applicant sample, int index) {
+        // 101 and 7 are coprime with the number of grades and months, so neighbouring applicants differ
+        int gradeHundredths = (index * 101) % (MAX_GRADE_HUNDREDTHS + 1);
+        int month = (index * 7) % (GRADUATION_YEARS * 12);
+
+        Set<Skill> skills = new HashSet<>(sample.getSkills());
+        skills.add(new Skill(EXTRA_SKILLS[index % EXTRA_SKILLS.length]));
+
+        return new Applicant(
+                new Name(sample.getName().fullName + " " + index),
+                new Phone(String.valueOf(80000000 + index)),
+                new Email("applicant" + index + "@example.com"),
+                new Grade(String.format(Locale.ROOT, "%d.%02d", gradeHundredths / 100, gradeHundredths % 100)),
+                sample.getInstitution(),
+                sample.getCourse(),
+                new GraduationYearMonth(String.format(Locale.ROOT, "%02d/%d",
+                        month % 12 + 1, FIRST_GRADUATION_YEAR + month / 12)),
+                sample.getJob(),
+                new ApplicationStatus(STATUSES[index % STATUSES.length]),
+                skills);
+    }
+
+    /**
+     * Zipf's law over ranks 0 to {@code n - 1}: rank {@code k} is drawn with probability proportional to
+     * {@code 1 / (k + 1)^ZIPF_EXPONENT}.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeProbabilities;
+
+        ZipfDistribution(int n) {
+            cumulativeProbabilities = new double[n];
+            double total = 0;
+            for (int k = 0; k < n; k++) {
+                total += 1 / Math.pow(k + 1, ZIPF_EXPONENT);
+                cumulativeProbabilities[k] = total;
+            }
+            for (int k = 0; k < n; k++) {
+                cumulativeProbabilities[k] /= total;
+            }
+        }
+
+        int sample(Random random) {
+            int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+            int rank = index >= 0 ? index : -index - 1;
+            return Math.min(rank, cumulativeProbabilities.length - 1);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.intern.storage;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.intern.model.applicant.Applicant;
+
+/**
+ * The applicants deleted, and the applicants added or edited, between two versions of a list of applicants, for
+ * storages that save only the applicants that changed.
+ *
+ * The applicants kept in both versions must be in the same order, and the added applicants must come after them,
+ * so that a storage which appends added applicants reads back the applicants in the same order.
+ */
+class ApplicantChanges {
+    private final List<Integer> deletedIds = new ArrayList<>();
+    private final List<Applicant> updatedApplicants = new ArrayList<>();
+
+    /**
+     * Returns the changes from {@code oldApplicants}, by id in the order they are stored, to {@code newApplicants},
+     * or null if an applicant has no id or the applicants were reordered.
+     */
+    static ApplicantChanges between(Map<Integer, Applicant> oldApplicants, List<Applicant> newApplicants) {
+        ApplicantChanges changes = new ApplicantChanges();
+        Iterator<Integer> oldIds = oldApplicants.keySet().iterator();
+        boolean hasNewApplicant = false;
+        for (Applicant applicant : newApplicants) {
+            if (!applicant.hasId()) {
+                return null;
+            }
+
+            Applicant oldApplicant = oldApplicants.get(applicant.getId());
+            if (oldApplicant == null) {
+                // added applicants are stored after all the others
+                hasNewApplicant = true;
+                changes.updatedApplicants.add(applicant);
+                continue;
+            } else if (hasNewApplicant) {
+                return null;
+            }
+
+            // the old applicants skipped over have been deleted, unless they were moved later in the list
+            int oldId = Applicant.UNASSIGNED_ID;
+            while (oldIds.hasNext() && (oldId = oldIds.next()) != applicant.getId()) {
+                changes.deletedIds.add(oldId);
+            }
+            if (oldId != applicant.getId()) {
+                return null;
+            }
+            if (!oldApplicant.equals(applicant)) {
+                changes.updatedApplicants.add(applicant);
+            }
+        }
+        oldIds.forEachRemaining(changes.deletedIds::add);
+        return changes;
+    }
+
+    /**
+     * Returns the ids of the applicants deleted.
+     */
+    List<Integer> getDeletedIds() {
+        return deletedIds;
+    }
+
+    /**
+     * Returns the applicants added or edited, in the order of the new list.
+     */
+    List<Applicant> getUpdatedApplicants() {
+        return updatedApplicants;
+    }
+
+    /**
+     * Applies these changes to {@code applicants}, the old applicants by id in the order they are stored.
+     */
+    void applyTo(Map<Integer, Applicant> applicants) {
+        deletedIds.forEach(applicants::remove);
+        updatedApplicants.forEach(applicant -> applicants.put(applicant.getId(), applicant));
+    }
+
+    int size() {
+        return deletedIds.size() + updatedApplicants.size();
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.intern.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.util.FileUtil;
+import seedu.intern.commons.util.JsonUtil;
+import seedu.intern.logic.parser.CsvApplicantParser;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.skills.Skill;
+
+/**
+ * Writes applicants to a CSV, TSV or JSON Lines file, chosen by the extension of the file, and compressed with gzip
+ * if the extension is followed by {@code .gz}.
+ *
+ * The applicants are written as they are formatted, through a buffer into the file channel, so the contents of the
+ * file are never held in memory. CSV and TSV files have the columns read by {@code CsvApplicantParser}, so they can
+ * be imported again, and JSON Lines files have an applicant in the format of the data file on each line.
+ * The file is written under a temporary name and then renamed, so a failed export leaves no partial file behind.
+ */
+public class ApplicantExporter {
+
+    /** The formats applicants can be exported in. */
+    public enum Format { CSV, TSV, JSON_LINES }
+
+    public static final String GZIP_EXTENSION = ".gz";
+
+    private static final Logger logger = LogsCenter.getLogger(ApplicantExporter.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMPORARY_EXTENSION = ".part";
+
+    // Runs the background exports one at a time, in the order they were requested
+    private static final ExecutorService exportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "InternWatcher-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Returns the format of {@code file} given by its extension, ignoring any {@code .gz} extension after it, or an
+     * empty {@code Optional} if applicants cannot be exported to such a file.
+     */
+    public static Optional<Format> getFormat(Path file) {
+        String fileName = file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(GZIP_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - GZIP_EXTENSION.length());
+        }
+
+        if (fileName.endsWith(".csv")) {
+            return Optional.of(Format.CSV);
+        } else if (fileName.endsWith(".tsv")) {
+            return Optional.of(Format.TSV);
+        } else if (fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")) {
+            return Optional.of(Format.JSON_LINES);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if {@code file} is compressed with gzip, going by its extension.
+     */
+    public static boolean isCompressed(Path file) {
+        return file.toString().toLowerCase(Locale.ROOT).endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Writes {@code applicants} to {@code file}, replacing it if it exists.
+     *
+     * @throws IllegalArgumentException if applicants cannot be exported to {@code file}.
+     * @throws IOException if the file could not be written.
+     */
+    public static void export(List<Applicant> applicants, Path file) throws IOException {
+        export(applicants, file, () -> false);
+    }
+
+    /**
+     * Writes {@code applicants} to {@code file} as in {@link #export(List, Path)}, stopping with a
+     * {@code CancellationException} once {@code isCancelled} is true, which leaves {@code file} unchanged.
+     */
+    private static void export(List<Applicant> applicants, Path file, BooleanSupplier isCancelled)
+            throws IOException {
+        requireNonNull(applicants);
+        requireNonNull(file);
+        Format format = getFormat(file).orElseThrow(() -> new IllegalArgumentException("Unsupported file: " + file));
+
+        FileUtil.createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_EXTENSION);
+        try {
+            try (OutputStream out = openOutputStream(temporaryFile, isCompressed(file));
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                            BUFFER_SIZE)) {
+                if (format == Format.JSON_LINES) {
+                    JsonUtil.writeJsonLines(writer, () -> adaptedApplicants(applicants, isCancelled));
+                } else {
+                    writeCsv(writer, applicants, format == Format.TSV ? '\t' : ',', isCancelled);
+                }
+            }
+            FileUtil.moveReplacing(temporaryFile, file);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Writes {@code applicants} to {@code file} on a background thread, as in {@link #export(List, Path)}.
+     * The returned future completes once the file has been written, or exceptionally if it could not be written.
+     * {@code applicants} must not be modified until then. Cancelling the future stops the export, leaving any
+     * existing file unchanged.
+     */
+    public static CompletableFuture<Void> exportInBackground(List<Applicant> applicants, Path file) {
+        requireNonNull(applicants);
+        requireNonNull(file);
+        CompletableFuture<Void> export = new CompletableFuture<>();
+        exportExecutor.execute(() -> {
+            if (export.isCancelled()) {
+                return;
+            }
+            long exportStart = System.nanoTime();
+            try {
+                export(applicants, file, export::isCancelled);
+                logger.info(() -> String.format("Exported %d applicants to %s in %.1f ms", applicants.size(), file,
+                        (System.nanoTime() - exportStart) / 1e6));
+                export.complete(null);
+            } catch (CancellationException e) {
+                logger.info("Cancelled the export to " + file);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to export applicants to " + file + ": " + e);
+                export.completeExceptionally(e);
+            }
+        });
+        return export;
+    }
+
+    private static OutputStream openOutputStream(Path file, boolean isCompressed) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        OutputStream out = Channels.newOutputStream(channel);
+        return isCompressed ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+    }
+
+    /**
+     * Returns an iterator over {@code applicants} adapted for Jackson one at a time, as they are written, which
+     * throws a {@code CancellationException} once {@code isCancelled} is true.
+     */
+    private static Iterator<JsonAdaptedApplicant> adaptedApplicants(List<Applicant> applicants,
+            BooleanSupplier isCancelled) {
+        Iterator<Applicant> iterator = applicants.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public JsonAdaptedApplicant next() {
+                checkNotCancelled(isCancelled);
+                return new JsonAdaptedApplicant(iterator.next());
+            }
+        };
+    }
+
+    private static void writeCsv(Writer writer, List<Applicant> applicants, char separator,
+            BooleanSupplier isCancelled) throws IOException {
+        for (int i = 0; i < CsvApplicantParser.COLUMNS.size(); i++) {
+            if (i > 0) {
+                writer.write(separator);
+            }
+            writer.write(CsvApplicantParser.COLUMNS.get(i));
+        }
+        writer.write('\n');
+
+        for (Applicant applicant : applicants) {
+            checkNotCancelled(isCancelled);
+            // in the order of CsvApplicantParser.COLUMNS
+            writeField(writer, applicant.getName().fullName, separator);
+            writer.write(separator);
+            writeField(writer, applicant.getPhone().value, separator);
+            writer.write(separator);
+            writeField(writer, applicant.getEmail().value, separator);
+            writer.write(separator);
+            writeField(writer, applicant.getGrade().value, separator);
+            writer.write(separator);
+            writeField(writer, applicant.getInstitution().value, separator);
+            writer.write(separator);
+            writeField(writer, applicant.getCourse().value, separator);
+            writer.write(separator);
+            writeField(writer, applicant.getGraduationYearMonth().toString(), separator);
+            writer.write(separator);
+            writeField(writer, applicant.getJob().jobName, separator);
+            writer.write(separator);
+            writer.write(applicant.getApplicationStatus().value.name());
+            writer.write(separator);
+            boolean isFirstSkill = true;
+            for (Skill skill : applicant.getSkills()) {
+                if (!isFirstSkill) {
+                    writer.write(CsvApplicantParser.SKILL_SEPARATOR);
+                }
+                // skill names cannot contain a separator or quote
+                writer.write(skill.skillName);
+                isFirstSkill = false;
+            }
+            writer.write('\n');
+        }
+    }
+
+    private static void checkNotCancelled(BooleanSupplier isCancelled) {
+        if (isCancelled.getAsBoolean()) {
+            throw new CancellationException();
+        }
+    }
+
+    /**
+     * Writes {@code value}, enclosed in double quotes if it contains {@code separator}, a double quote or a line
+     * break.
+     */
+    private static void writeField(Writer writer, String value, char separator) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == separator || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -13,6 +13,20 @@ import seedu.intern.model.ReadOnlyInternWatcher;
  */
 public interface InternWatcherStorage {
 
+    /**
+     * Returns a storage for the data file at {@code filePath}, which keeps the data as JSON Lines if the file has
+     * the extension {@value JsonLinesInternWatcherStorage#FILE_EXTENSION}, in an H2 database if it has the extension
+     * {@value SqlInternWatcherStorage#FILE_EXTENSION}, and as a single json object otherwise.
+     */
+    static InternWatcherStorage forFile(Path filePath) {
+        if (JsonLinesInternWatcherStorage.isJsonLinesFile(filePath)) {
+            return new JsonLinesInternWatcherStorage(filePath);
+        } else if (SqlInternWatcherStorage.isDatabaseFile(filePath)) {
+            return new SqlInternWatcherStorage(filePath);
+        }
+        return new JsonInternWatcherStorage(filePath);
+    }
+
     /**
      * Returns the file path of the data file.
      */
@@ -28,6 +28,7 @@ import seedu.intern.model.skills.Skill;
 class JsonAdaptedApplicant {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Applicant's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Applicant's id should be a positive integer";
 
     private final String name;
     private final String phone;
@@ -39,6 +40,8 @@ class JsonAdaptedApplicant {
     private final String job;
     private final String status;
     private final List<JsonAdaptedSkill> skills = new ArrayList<>();
+    // Optional, as files written before ids were introduced do not have them
+    private Integer id;
 
     /**
      * Constructs a {@code JsonAdaptedApplicant} with the given applicant details.
@@ -82,6 +85,14 @@ class JsonAdaptedApplicant {
         skills.addAll(source.getSkills().stream()
                 .map(JsonAdaptedSkill::new)
                 .collect(Collectors.toList()));
+        id = source.hasId() ? source.getId() : null;
+    }
+
+    /**
+     * Returns the id of the applicant, or null if it has none.
+     */
+    Integer getId() {
+        return id;
     }
 
     /**
@@ -174,9 +185,17 @@ class JsonAdaptedApplicant {
 
         final Set<Skill> modelSkills = new HashSet<>(applicantSkills);
 
-        return new Applicant(modelName, modelPhone, modelEmail, modelGrade,
+        final Applicant modelApplicant = new Applicant(modelName, modelPhone, modelEmail, modelGrade,
                 modelInstitution, modelCourse, modelYearMonth , modelJob, modelStatus, modelSkills);
 
+        if (id == null) {
+            return modelApplicant;
+        }
+        if (id <= Applicant.UNASSIGNED_ID) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        return modelApplicant.withId(id);
+
     }
 
 }
@@ -3,11 +3,13 @@ package seedu.intern.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.core.MetricsCenter;
 import seedu.intern.commons.exceptions.DataConversionException;
 import seedu.intern.commons.exceptions.IllegalValueException;
 import seedu.intern.commons.util.FileUtil;
@@ -16,17 +18,33 @@ import seedu.intern.model.ReadOnlyInternWatcher;
 
 /**
  * A class to access InternWatcher data stored as a json file on the hard disk.
+ *
+ * If the file path is a directory, or does not exist and has no file extension, the data is stored in that
+ * directory instead, as a json file for the applicants of each job, or of each graduation year, and a manifest
+ * listing the files, so that saving only rewrites the files whose applicants changed.
  */
 public class JsonInternWatcherStorage implements InternWatcherStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonInternWatcherStorage.class);
 
     private Path filePath;
+    private final JsonShardDirectory shardDirectory = new JsonShardDirectory();
 
     public JsonInternWatcherStorage(Path filePath) {
         this.filePath = filePath;
     }
 
+    /**
+     * Returns true if the data at {@code filePath} is stored in a directory: if it is a directory, or does not exist
+     * and has no file extension.
+     */
+    public static boolean isDirectoryPath(Path filePath) {
+        if (Files.exists(filePath)) {
+            return Files.isDirectory(filePath);
+        }
+        return filePath.getFileName() != null && !filePath.getFileName().toString().contains(".");
+    }
+
     public Path getInternWatcherFilePath() {
         return filePath;
     }
@@ -45,6 +63,10 @@ public class JsonInternWatcherStorage implements InternWatcherStorage {
     public Optional<ReadOnlyInternWatcher> readInternWatcher(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        if (isDirectoryPath(filePath)) {
+            return shardDirectory.read(filePath);
+        }
+
         Optional<JsonSerializableInternWatcher> jsonInternWatcher = JsonUtil.readJsonFile(
                 filePath, JsonSerializableInternWatcher.class);
         if (!jsonInternWatcher.isPresent()) {
@@ -73,8 +95,14 @@ public class JsonInternWatcherStorage implements InternWatcherStorage {
         requireNonNull(internWatcher);
         requireNonNull(filePath);
 
+        if (isDirectoryPath(filePath)) {
+            shardDirectory.save(internWatcher, filePath);
+            return;
+        }
+
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableInternWatcher(internWatcher), filePath);
+        MetricsCenter.record("save.bytes", Files.size(filePath));
     }
 
 }
@@ -0,0 +1,292 @@
+package seedu.intern.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.core.MetricsCenter;
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.commons.exceptions.IllegalValueException;
+import seedu.intern.commons.util.FileUtil;
+import seedu.intern.commons.util.JsonUtil;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.exceptions.DuplicateApplicantException;
+
+/**
+ * A class to access InternWatcher data stored as a JSON Lines file on the hard disk, with a record on each line.
+ *
+ * A record is either an applicant, in the format of the json data file, or a tombstone {@code {"deleted":ID}} that
+ * removes the applicant with that id. The records are applied in order as the file is read, so a later record of an
+ * applicant replaces the earlier one in place, while an applicant recorded after its tombstone is added at the end.
+ *
+ * Saving appends only the records of the applicants added, edited or deleted since this storage last read or wrote
+ * the file, so a command touches only the tail of the file. The file is compacted instead, by rewriting it with a
+ * record for each applicant, if it was changed by something else, if the applicants were reordered, or if its
+ * superseded records outnumber its applicants.
+ */
+public class JsonLinesInternWatcherStorage implements InternWatcherStorage {
+
+    public static final String FILE_EXTENSION = ".jsonl";
+
+    public static final String MESSAGE_INVALID_RECORD = "Line %1$d is not a valid record: %2$s";
+
+    /** Number of superseded records a file may hold beyond its number of applicants before it is compacted. */
+    static final int COMPACTION_SLACK = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonLinesInternWatcherStorage.class);
+    private static final String DELETED_FIELD = "deleted";
+    private static final String TEMPORARY_EXTENSION = ".part";
+
+    private final Path filePath;
+
+    // The file last read or written by this storage, or null if its contents are not known
+    private Path knownFile;
+    private long knownFileSize;
+    private int knownRecordCount;
+    // The applicants in knownFile by id, in the order they are read back
+    private Map<Integer, Applicant> knownApplicants;
+
+    public JsonLinesInternWatcherStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} has the extension of a JSON Lines data file.
+     */
+    public static boolean isJsonLinesFile(Path filePath) {
+        return filePath.getFileName() != null && filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    public Path getInternWatcherFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInternWatcher> readInternWatcher() throws DataConversionException {
+        return readInternWatcher(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternWatcher()}.
+     * The file is read a line at a time, so only the latest record of each applicant is held in memory.
+     * A last line that is not a valid record is the remains of an interrupted save, and is ignored.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyInternWatcher> readInternWatcher(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json Lines file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        // The latest record of each applicant, by id, or by a negative number for applicants without an id
+        Map<Integer, JsonAdaptedApplicant> records = new LinkedHashMap<>();
+        int recordCount = 0;
+        long fileSize;
+        // Whether the records read can be appended to as they are
+        boolean canAppend = true;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            fileSize = Files.size(filePath);
+            int lineNumber = 0;
+            int applicantsWithoutId = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                lineNumber++;
+                String nextLine = reader.readLine();
+                if (line.isBlank()) {
+                    line = nextLine;
+                    continue;
+                }
+
+                JsonNode record;
+                try {
+                    record = JsonUtil.readJsonTree(line);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, lineNumber,
+                                e.getMessage()));
+                    }
+                    logger.warning("Ignoring the incomplete last line of " + filePath + ": " + e.getMessage());
+                    canAppend = false;
+                    break;
+                }
+
+                if (!record.isObject()) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, lineNumber, line));
+                } else if (record.has(DELETED_FIELD)) {
+                    records.remove(record.get(DELETED_FIELD).asInt());
+                } else {
+                    JsonAdaptedApplicant applicant = JsonUtil.fromJsonNode(record, JsonAdaptedApplicant.class);
+                    records.put(applicant.getId() != null ? applicant.getId() : -++applicantsWithoutId, applicant);
+                    canAppend &= applicant.getId() != null;
+                }
+                recordCount++;
+                line = nextLine;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from Json Lines file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        InternWatcher internWatcher = toModelType(records.values(), filePath);
+        if (canAppend) {
+            remember(filePath, fileSize, recordCount, internWatcher.getApplicantList());
+        } else {
+            // applicants without ids were given new ones, so the next save rewrites the file
+            knownFile = null;
+        }
+        return Optional.of(internWatcher);
+    }
+
+    private static InternWatcher toModelType(Iterable<JsonAdaptedApplicant> records, Path filePath)
+            throws DataConversionException {
+        try {
+            List<Applicant> applicants = new ArrayList<>();
+            for (JsonAdaptedApplicant record : records) {
+                applicants.add(record.toModelType());
+            }
+            InternWatcher internWatcher = new InternWatcher();
+            internWatcher.setApplicants(applicants);
+            return internWatcher;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateApplicantException e) {
+            logger.info("Duplicate applicants found in " + filePath);
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableInternWatcher.MESSAGE_DUPLICATE_APPLICANT));
+        }
+    }
+
+    @Override
+    public void saveInternWatcher(ReadOnlyInternWatcher internWatcher) throws IOException {
+        saveInternWatcher(internWatcher, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternWatcher(ReadOnlyInternWatcher)}.
+     * Appends the changes since the file was last read or written by this storage, or rewrites the file if they
+     * cannot be appended.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveInternWatcher(ReadOnlyInternWatcher internWatcher, Path filePath)
+            throws IOException {
+        requireNonNull(internWatcher);
+        requireNonNull(filePath);
+
+        List<Applicant> applicants = internWatcher.getApplicantList();
+        ApplicantChanges changes = isKnownFile(filePath)
+                ? ApplicantChanges.between(knownApplicants, applicants)
+                : null;
+        if (changes == null
+                || knownRecordCount + changes.size() - applicants.size() > applicants.size() + COMPACTION_SLACK) {
+            rewrite(applicants, filePath);
+        } else if (changes.size() > 0) {
+            append(changes, filePath);
+        }
+    }
+
+    /**
+     * Rewrites the data file with a single record for each applicant, dropping superseded records and tombstones.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IOException if the file could not be written.
+     */
+    public synchronized void compact() throws DataConversionException, IOException {
+        Optional<ReadOnlyInternWatcher> internWatcher = readInternWatcher(filePath);
+        if (internWatcher.isPresent()) {
+            rewrite(internWatcher.get().getApplicantList(), filePath);
+        }
+    }
+
+    private boolean isKnownFile(Path filePath) throws IOException {
+        return filePath.equals(knownFile) && Files.exists(filePath) && Files.size(filePath) == knownFileSize;
+    }
+
+    /**
+     * Writes {@code applicants} to {@code filePath} under a temporary name, then replaces the file with it, so that
+     * the file is never left partly written.
+     */
+    private void rewrite(List<Applicant> applicants, Path filePath) throws IOException {
+        knownFile = null;
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFile = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_EXTENSION);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                JsonUtil.writeJsonLines(writer, () -> applicants.stream().map(JsonAdaptedApplicant::new).iterator());
+            }
+            FileUtil.moveReplacing(temporaryFile, filePath);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        long fileSize = Files.size(filePath);
+        MetricsCenter.record("save.bytes", fileSize);
+
+        if (applicants.stream().allMatch(Applicant::hasId)) {
+            remember(filePath, fileSize, applicants.size(), applicants);
+        }
+    }
+
+    private void append(ApplicantChanges changes, Path filePath) throws IOException {
+        knownFile = null;
+        List<Object> records = new ArrayList<>(changes.size());
+        changes.getDeletedIds().forEach(id -> records.add(new JsonTombstone(id)));
+        changes.getUpdatedApplicants().forEach(applicant -> records.add(new JsonAdaptedApplicant(applicant)));
+        try (Writer writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+            JsonUtil.writeJsonLines(writer, records);
+        }
+        long fileSize = Files.size(filePath);
+        MetricsCenter.record("save.bytes", fileSize - knownFileSize);
+
+        changes.applyTo(knownApplicants);
+        knownFile = filePath;
+        knownFileSize = fileSize;
+        knownRecordCount += records.size();
+    }
+
+    private void remember(Path filePath, long fileSize, int recordCount, List<Applicant> applicants) {
+        knownApplicants = new LinkedHashMap<>();
+        for (Applicant applicant : applicants) {
+            knownApplicants.put(applicant.getId(), applicant);
+        }
+        knownRecordCount = recordCount;
+        knownFileSize = fileSize;
+        knownFile = filePath;
+    }
+
+    /**
+     * Jackson-friendly record of the deletion of an applicant.
+     */
+    private static class JsonTombstone {
+        private final int deleted;
+
+        JsonTombstone(int deleted) {
+            this.deleted = deleted;
+        }
+    }
+}
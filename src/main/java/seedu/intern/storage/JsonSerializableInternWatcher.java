@@ -41,6 +41,20 @@ class JsonSerializableInternWatcher {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Converts the applicants of this intern watcher into the model's {@code Applicant} objects, without checking
+     * that they are unique.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    List<Applicant> toApplicants() throws IllegalValueException {
+        List<Applicant> modelApplicants = new ArrayList<>(applicants.size());
+        for (JsonAdaptedApplicant jsonAdaptedApplicant : applicants) {
+            modelApplicants.add(jsonAdaptedApplicant.toModelType());
+        }
+        return modelApplicants;
+    }
+
     /**
      * Converts this intern watcher into the model's {@code InternWatcher} object.
      *
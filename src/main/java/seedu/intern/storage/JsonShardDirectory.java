@@ -0,0 +1,326 @@
+package seedu.intern.storage;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.core.MetricsCenter;
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.commons.exceptions.IllegalValueException;
+import seedu.intern.commons.util.JsonUtil;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.exceptions.DuplicateApplicantException;
+
+/**
+ * Reads and writes InternWatcher data kept in a directory of json files, each holding a shard of the applicants
+ * with the same job or the same graduation year, listed by a manifest file in the directory.
+ *
+ * Saving rewrites only the shards whose applicants changed since the directory was last read or written, and
+ * reading loads the shards in parallel. A changed shard is written to a new file, and the manifest is replaced
+ * only after every such file is written, so an interrupted save leaves the directory as it was before the save.
+ * Applicants are read back in the order of their ids, which is the order they were added in.
+ */
+class JsonShardDirectory {
+
+    public static final String MANIFEST_FILE = "manifest.json";
+    public static final String MESSAGE_INVALID_SHARD_KEY = "The manifest shards applicants by an unknown field: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonShardDirectory.class);
+    private static final String FILE_EXTENSION = ".json";
+    private static final String TEMPORARY_EXTENSION = ".part";
+    private static final int MAX_SLUG_LENGTH = 32;
+
+    /**
+     * The fields applicants can be sharded by.
+     */
+    enum ShardKey {
+        JOB {
+            @Override
+            String of(Applicant applicant) {
+                return applicant.getJob().jobName;
+            }
+        },
+        COHORT {
+            @Override
+            String of(Applicant applicant) {
+                return String.valueOf(applicant.getGraduationYearMonth().yearMonth.getYear());
+            }
+        };
+
+        /**
+         * Returns the key of the shard holding {@code applicant}.
+         */
+        abstract String of(Applicant applicant);
+
+        /**
+         * Returns the prefix of the names of the files of shards by this key.
+         */
+        String getFilePrefix() {
+            return name().toLowerCase(Locale.ROOT) + "-";
+        }
+    }
+
+    // The directory last read or written, or null if its contents are not known
+    private Path knownDirectory;
+    private ShardKey knownShardKey;
+    private long knownGeneration;
+    // The shards in knownDirectory by shard key
+    private Map<String, Shard> knownShards;
+
+    /**
+     * Returns the data in the directory {@code directory}, or an empty {@code Optional} if it has no manifest.
+     *
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     */
+    synchronized Optional<ReadOnlyInternWatcher> read(Path directory) throws DataConversionException {
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE),
+                JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        ShardKey shardKey = parseShardKey(manifest.get().getShardBy());
+
+        List<ShardContents> contents = manifest.get().getShards().parallelStream()
+                .map(entry -> ShardContents.read(directory, entry))
+                .collect(Collectors.toList());
+        Map<String, Shard> shards = new TreeMap<>();
+        List<Applicant> applicants = new ArrayList<>();
+        for (ShardContents shardContents : contents) {
+            if (shardContents.error != null) {
+                throw shardContents.error;
+            }
+            shards.put(shardContents.key, new Shard(shardContents.file, shardContents.applicants));
+            applicants.addAll(shardContents.applicants);
+        }
+        applicants.sort(Comparator.comparingInt(Applicant::getId));
+
+        InternWatcher internWatcher = new InternWatcher();
+        try {
+            internWatcher.setApplicants(applicants);
+        } catch (DuplicateApplicantException e) {
+            logger.info("Duplicate applicants found in " + directory);
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableInternWatcher.MESSAGE_DUPLICATE_APPLICANT));
+        }
+
+        remember(directory, shardKey, manifest.get().getGeneration(), shards);
+        return Optional.of(internWatcher);
+    }
+
+    /**
+     * Saves {@code internWatcher} to the directory {@code directory}, creating it if it does not exist.
+     * Only the shards that changed since the directory was last read or written are written.
+     */
+    synchronized void save(ReadOnlyInternWatcher internWatcher, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        boolean isKnownDirectory = directory.equals(knownDirectory);
+        Optional<JsonShardManifest> manifest = isKnownDirectory ? Optional.empty() : readManifestQuietly(directory);
+        ShardKey shardKey = isKnownDirectory ? knownShardKey : manifest
+                .flatMap(existingManifest -> findShardKey(existingManifest.getShardBy()))
+                .orElse(ShardKey.JOB);
+        long generation = 1 + (isKnownDirectory ? knownGeneration : manifest.map(JsonShardManifest::getGeneration)
+                .orElse(0L));
+        Map<String, Shard> oldShards = isKnownDirectory ? knownShards : Map.of();
+
+        Map<String, List<Applicant>> groups = new TreeMap<>();
+        for (Applicant applicant : internWatcher.getApplicantList()) {
+            groups.computeIfAbsent(shardKey.of(applicant), key -> new ArrayList<>()).add(applicant);
+        }
+
+        Map<String, Shard> shards = new TreeMap<>();
+        boolean hasChanged = !isKnownDirectory || groups.size() != oldShards.size();
+        long bytesWritten = 0;
+        for (Map.Entry<String, List<Applicant>> group : groups.entrySet()) {
+            Shard oldShard = oldShards.get(group.getKey());
+            if (oldShard != null && isSameApplicants(oldShard.applicants, group.getValue())) {
+                shards.put(group.getKey(), oldShard);
+                continue;
+            }
+
+            String file = getFileName(shardKey, group.getKey(), generation);
+            List<JsonAdaptedApplicant> adaptedApplicants = group.getValue().stream()
+                    .map(JsonAdaptedApplicant::new)
+                    .collect(Collectors.toList());
+            bytesWritten += writeJsonFile(new JsonSerializableInternWatcher(adaptedApplicants),
+                    directory.resolve(file));
+            shards.put(group.getKey(), new Shard(file, group.getValue()));
+            hasChanged = true;
+        }
+        if (!hasChanged) {
+            return;
+        }
+
+        List<JsonShardManifest.Shard> entries = shards.entrySet().stream()
+                .map(shard -> new JsonShardManifest.Shard(shard.getKey(), shard.getValue().file,
+                        shard.getValue().applicants.size()))
+                .collect(Collectors.toList());
+        knownDirectory = null;
+        bytesWritten += writeJsonFile(new JsonShardManifest(shardKey.name(), generation, entries),
+                directory.resolve(MANIFEST_FILE));
+        deleteUnlistedShards(directory, shards);
+        MetricsCenter.record("save.bytes", bytesWritten);
+        logger.fine(() -> "Saved " + entries.size() + " shards to " + directory);
+
+        remember(directory, shardKey, generation, shards);
+    }
+
+    private void remember(Path directory, ShardKey shardKey, long generation, Map<String, Shard> shards) {
+        knownDirectory = directory;
+        knownShardKey = shardKey;
+        knownGeneration = generation;
+        knownShards = shards;
+    }
+
+    /**
+     * Returns true if {@code oldApplicants} and {@code newApplicants} hold the same applicants, with the same ids,
+     * in the same order.
+     */
+    private static boolean isSameApplicants(List<Applicant> oldApplicants, List<Applicant> newApplicants) {
+        if (oldApplicants.size() != newApplicants.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldApplicants.size(); i++) {
+            Applicant oldApplicant = oldApplicants.get(i);
+            Applicant newApplicant = newApplicants.get(i);
+            // unchanged applicants are usually the same objects, which saves comparing their fields
+            if (oldApplicant != newApplicant
+                    && (oldApplicant.getId() != newApplicant.getId() || !oldApplicant.equals(newApplicant))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the name of the file of the shard with key {@code key} written by the save numbered
+     * {@code generation}. The key is hashed into the name, as keys that differ only in punctuation or case have
+     * the same readable part.
+     */
+    private static String getFileName(ShardKey shardKey, String key, long generation) {
+        String slug = key.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        if (slug.length() > MAX_SLUG_LENGTH) {
+            slug = slug.substring(0, MAX_SLUG_LENGTH);
+        }
+        return shardKey.getFilePrefix() + slug + "-" + Integer.toHexString(key.hashCode()) + "-" + generation
+                + FILE_EXTENSION;
+    }
+
+    /**
+     * Writes {@code jsonObject} to {@code file}, and returns the size of the file. The file is written under a
+     * temporary name ending in {@code .part} first, then renamed.
+     */
+    private static long writeJsonFile(Object jsonObject, Path file) throws IOException {
+        JsonUtil.saveJsonFile(jsonObject, file);
+        return Files.size(file);
+    }
+
+    /**
+     * Deletes the shard files in {@code directory} that are not among {@code shards}, such as the files replaced by
+     * the last save, or files left by an interrupted save.
+     */
+    private static void deleteUnlistedShards(Path directory, Map<String, Shard> shards) throws IOException {
+        Set<String> listedFiles = new HashSet<>();
+        shards.values().forEach(shard -> listedFiles.add(shard.file));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isShardFileName(fileName) && !listedFiles.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static boolean isShardFileName(String fileName) {
+        for (ShardKey shardKey : ShardKey.values()) {
+            if (fileName.startsWith(shardKey.getFilePrefix())
+                    && (fileName.endsWith(FILE_EXTENSION) || fileName.endsWith(FILE_EXTENSION + TEMPORARY_EXTENSION))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<JsonShardManifest> readManifestQuietly(Path directory) {
+        try {
+            return JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE), JsonShardManifest.class);
+        } catch (DataConversionException e) {
+            logger.warning("Replacing the unreadable manifest of " + directory + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<ShardKey> findShardKey(String shardBy) {
+        for (ShardKey shardKey : ShardKey.values()) {
+            if (shardKey.name().equalsIgnoreCase(shardBy)) {
+                return Optional.of(shardKey);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static ShardKey parseShardKey(String shardBy) throws DataConversionException {
+        return findShardKey(shardBy).orElseThrow(() -> new DataConversionException(
+                new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_KEY, shardBy))));
+    }
+
+    /**
+     * A shard as last read or written: the name of its file and its applicants, in order.
+     */
+    private static class Shard {
+        private final String file;
+        private final List<Applicant> applicants;
+
+        Shard(String file, List<Applicant> applicants) {
+            this.file = file;
+            this.applicants = applicants;
+        }
+    }
+
+    /**
+     * The applicants read from the file of a shard, or the reason they could not be read.
+     */
+    private static class ShardContents {
+        private final String key;
+        private final String file;
+        private final List<Applicant> applicants;
+        private final DataConversionException error;
+
+        private ShardContents(String key, String file, List<Applicant> applicants, DataConversionException error) {
+            this.key = key;
+            this.file = file;
+            this.applicants = applicants;
+            this.error = error;
+        }
+
+        static ShardContents read(Path directory, JsonShardManifest.Shard entry) {
+            Path file = directory.resolve(entry.getFile());
+            try {
+                JsonSerializableInternWatcher shard = JsonUtil.readJsonFile(file, JsonSerializableInternWatcher.class)
+                        .orElseThrow(() -> new DataConversionException(
+                                new IOException("Shard file not found: " + file)));
+                return new ShardContents(entry.getKey(), entry.getFile(), shard.toApplicants(), null);
+            } catch (DataConversionException e) {
+                return new ShardContents(entry.getKey(), entry.getFile(), null, e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+                return new ShardContents(entry.getKey(), entry.getFile(), null, new DataConversionException(ive));
+            }
+        }
+    }
+}
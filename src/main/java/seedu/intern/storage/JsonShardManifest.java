@@ -0,0 +1,76 @@
+package seedu.intern.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a directory of shards, which lists the file holding the applicants of each shard.
+ */
+class JsonShardManifest {
+
+    private final String shardBy;
+    private final long generation;
+    private final List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} of shards of applicants with the same value of {@code shardBy}, written
+     * by the save numbered {@code generation}.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("shardBy") String shardBy, @JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<Shard> shards) {
+        this.shardBy = shardBy;
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    public String getShardBy() {
+        return shardBy;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Jackson-friendly entry of a shard in the manifest.
+     */
+    static class Shard {
+        private final String key;
+        private final String file;
+        private final int applicants;
+
+        /**
+         * Constructs a {@code Shard} of the {@code applicants} applicants with the shard key {@code key}, held in
+         * {@code file} within the directory.
+         */
+        @JsonCreator
+        public Shard(@JsonProperty("key") String key, @JsonProperty("file") String file,
+                @JsonProperty("applicants") int applicants) {
+            this.key = key;
+            this.file = file;
+            this.applicants = applicants;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public int getApplicants() {
+            return applicants;
+        }
+    }
+}
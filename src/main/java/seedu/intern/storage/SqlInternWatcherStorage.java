@@ -0,0 +1,527 @@
+package seedu.intern.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.commons.exceptions.IllegalValueException;
+import seedu.intern.logic.commands.FilterCommand.FilterApplicantDescriptor;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus;
+import seedu.intern.model.applicant.CombineFiltersPredicate;
+import seedu.intern.model.applicant.Course;
+import seedu.intern.model.applicant.Email;
+import seedu.intern.model.applicant.Grade;
+import seedu.intern.model.applicant.GraduationYearMonth;
+import seedu.intern.model.applicant.Institution;
+import seedu.intern.model.applicant.Job;
+import seedu.intern.model.applicant.Name;
+import seedu.intern.model.applicant.Phone;
+import seedu.intern.model.applicant.exceptions.DuplicateApplicantException;
+import seedu.intern.model.skills.Skill;
+
+/**
+ * A class to access InternWatcher data stored in an embedded H2 database file on the hard disk.
+ *
+ * Applicants are rows of the {@code applicants} table, and their skills are rows of the {@code skills} table.
+ * The columns that applicants are filtered by are indexed, with the grade also kept as a number and the graduation
+ * month as {@code YYYYMM} so that they can be compared in SQL.
+ *
+ * Saving updates only the rows of the applicants added, edited or deleted since this storage last read or wrote the
+ * database, in a single transaction. The tables are rewritten instead if the applicants were reordered or the
+ * database was not read first.
+ */
+public class SqlInternWatcherStorage implements InternWatcherStorage {
+
+    /** The extension H2 gives to its database files. */
+    public static final String FILE_EXTENSION = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlInternWatcherStorage.class);
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS applicants ("
+                + "id INT PRIMARY KEY, "
+                + "list_index INT NOT NULL, "
+                + "name VARCHAR NOT NULL, "
+                + "phone VARCHAR NOT NULL, "
+                + "email VARCHAR NOT NULL, "
+                + "grade VARCHAR NOT NULL, "
+                + "grade_points DECIMAL(5, 2) NOT NULL, "
+                + "institution VARCHAR NOT NULL, "
+                + "course VARCHAR NOT NULL, "
+                + "graduation INT NOT NULL, "
+                + "job VARCHAR NOT NULL, "
+                + "status VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS skills ("
+                + "applicant_id INT NOT NULL REFERENCES applicants(id) ON DELETE CASCADE, "
+                + "skill VARCHAR NOT NULL, "
+                + "PRIMARY KEY (applicant_id, skill))",
+        "CREATE INDEX IF NOT EXISTS applicants_list_index ON applicants(list_index)",
+        "CREATE INDEX IF NOT EXISTS applicants_status ON applicants(status)",
+        "CREATE INDEX IF NOT EXISTS applicants_job ON applicants(job)",
+        "CREATE INDEX IF NOT EXISTS applicants_institution ON applicants(institution)",
+        "CREATE INDEX IF NOT EXISTS applicants_grade_points ON applicants(grade_points)",
+        "CREATE INDEX IF NOT EXISTS applicants_graduation ON applicants(graduation)",
+        "CREATE INDEX IF NOT EXISTS skills_skill ON skills(skill)"
+    };
+
+    private static final String APPLICANT_COLUMNS =
+            "id, name, phone, email, grade, institution, course, graduation, job, status";
+    private static final String SELECT_APPLICANTS = "SELECT " + APPLICANT_COLUMNS + " FROM applicants a";
+    private static final String SELECT_SKILLS = "SELECT applicant_id, skill FROM skills";
+    private static final String INSERT_APPLICANT = "INSERT INTO applicants (list_index, name, phone, email, grade, "
+            + "grade_points, institution, course, graduation, job, status, id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_APPLICANT = "UPDATE applicants SET name = ?, phone = ?, email = ?, "
+            + "grade = ?, grade_points = ?, institution = ?, course = ?, graduation = ?, job = ?, status = ? "
+            + "WHERE id = ?";
+    private static final String DELETE_APPLICANT = "DELETE FROM applicants WHERE id = ?";
+    private static final String INSERT_SKILL = "INSERT INTO skills (applicant_id, skill) VALUES (?, ?)";
+    private static final String DELETE_SKILLS = "DELETE FROM skills WHERE applicant_id = ?";
+
+    private final Path filePath;
+
+    // The connection to the database in connectedFile, opened when it is first needed
+    private Connection connection;
+    private Path connectedFile;
+
+    // The database last read or written by this storage, or null if its contents are not known
+    private Path knownFile;
+    private int nextListIndex;
+    // The applicants in knownFile by id, in the order of their list index
+    private Map<Integer, Applicant> knownApplicants;
+
+    public SqlInternWatcherStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} has the extension of an H2 database file.
+     */
+    public static boolean isDatabaseFile(Path filePath) {
+        return filePath.getFileName() != null && filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    public Path getInternWatcherFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInternWatcher> readInternWatcher() throws DataConversionException, IOException {
+        return readInternWatcher(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternWatcher()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the database holds invalid applicants.
+     * @throws IOException if the database could not be read.
+     */
+    public synchronized Optional<ReadOnlyInternWatcher> readInternWatcher(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Database file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            Connection connection = connect(filePath);
+            List<Applicant> applicants = queryApplicants(connection, "", List.of());
+            InternWatcher internWatcher = new InternWatcher();
+            internWatcher.setApplicants(applicants);
+
+            knownApplicants = new LinkedHashMap<>();
+            internWatcher.getApplicantList().forEach(applicant -> knownApplicants.put(applicant.getId(), applicant));
+            nextListIndex = queryNextListIndex(connection);
+            knownFile = filePath;
+            return Optional.of(internWatcher);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new IOException("Could not read " + filePath, e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateApplicantException e) {
+            logger.info("Duplicate applicants found in " + filePath);
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableInternWatcher.MESSAGE_DUPLICATE_APPLICANT));
+        }
+    }
+
+    /**
+     * Returns the applicants in the database that match {@code descriptor}, in order.
+     * The conditions on the grade, graduation month, statuses and skills, and a looser form of the conditions on
+     * the institution, course and job, are tested in SQL, so that only the rows likely to match are read. The
+     * applicants read are then filtered exactly as the {@code filter} command does.
+     *
+     * @throws DataConversionException if the database holds invalid applicants.
+     * @throws IOException if the database could not be read.
+     */
+    public synchronized List<Applicant> findApplicants(FilterApplicantDescriptor descriptor)
+            throws DataConversionException, IOException {
+        requireNonNull(descriptor);
+
+        List<Object> parameters = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        descriptor.getGrade().ifPresent(grade -> {
+            conditions.add("a.grade_points >= ?");
+            parameters.add(BigDecimal.valueOf(grade.hundredths, 2));
+        });
+        descriptor.getGraduationYearMonth().ifPresent(graduation -> {
+            conditions.add("a.graduation < ?");
+            parameters.add(toColumnValue(graduation));
+        });
+        descriptor.getInstitutions().ifPresent(institutions -> conditions.add(anyContaining("a.institution",
+                institutions.stream().map(institution -> List.of(institution.value)).collect(Collectors.toList()),
+                parameters)));
+        descriptor.getCourses().ifPresent(courses -> conditions.add(anyContaining("a.course", courses, parameters)));
+        descriptor.getJobs().ifPresent(jobs -> conditions.add(anyContaining("a.job", jobs, parameters)));
+        descriptor.getApplicationStatuses().ifPresent(statuses -> {
+            conditions.add("a.status IN (" + statuses.stream().map(status -> "?").collect(Collectors.joining(", "))
+                    + ")");
+            statuses.forEach(status -> parameters.add(status.value.name()));
+        });
+        descriptor.getSkills().ifPresent(skills -> skills.forEach(skill -> {
+            conditions.add("EXISTS (SELECT 1 FROM skills s WHERE s.applicant_id = a.id AND s.skill = ?)");
+            parameters.add(skill.skillName);
+        }));
+
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        try {
+            return queryApplicants(connect(filePath), where, parameters).stream()
+                    .filter(new CombineFiltersPredicate(descriptor))
+                    .collect(Collectors.toList());
+        } catch (SQLException e) {
+            throw new IOException("Could not read " + filePath, e);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveInternWatcher(ReadOnlyInternWatcher internWatcher) throws IOException {
+        saveInternWatcher(internWatcher, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternWatcher(ReadOnlyInternWatcher)}.
+     * Updates the rows of the applicants that changed since the database was last read or written by this storage,
+     * or rewrites the tables if they cannot be updated.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveInternWatcher(ReadOnlyInternWatcher internWatcher, Path filePath)
+            throws IOException {
+        requireNonNull(internWatcher);
+        requireNonNull(filePath);
+
+        List<Applicant> applicants = internWatcher.getApplicantList();
+        ApplicantChanges changes = filePath.equals(knownFile)
+                ? ApplicantChanges.between(knownApplicants, applicants)
+                : null;
+        if (changes != null && changes.size() == 0) {
+            return;
+        }
+
+        try {
+            Connection connection = connect(filePath);
+            knownFile = null;
+            try {
+                if (changes == null) {
+                    replaceAll(connection, applicants);
+                } else {
+                    update(connection, changes);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.warning("Error saving to database " + filePath + ": " + e);
+            throw new IOException("Could not save to " + filePath, e);
+        }
+
+        if (changes == null) {
+            knownApplicants = new LinkedHashMap<>();
+            applicants.forEach(applicant -> knownApplicants.put(applicant.getId(), applicant));
+            nextListIndex = applicants.size();
+        } else {
+            changes.applyTo(knownApplicants);
+        }
+        if (applicants.stream().allMatch(Applicant::hasId)) {
+            knownFile = filePath;
+        }
+    }
+
+    /**
+     * Closes the connection to the database, if it is open, so that other programs can open the database.
+     */
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close " + connectedFile, e);
+        } finally {
+            connection = null;
+            connectedFile = null;
+            knownFile = null;
+        }
+    }
+
+    /**
+     * Returns the connection to the database at {@code filePath}, creating the database and its tables if they do
+     * not exist.
+     */
+    private Connection connect(Path filePath) throws SQLException {
+        if (connection != null && filePath.equals(connectedFile)) {
+            return connection;
+        }
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+
+        String fileName = filePath.toAbsolutePath().toString();
+        String databaseName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        Connection newConnection = DriverManager.getConnection(JDBC_URL_PREFIX + databaseName);
+        try (Statement statement = newConnection.createStatement()) {
+            for (String definition : SCHEMA) {
+                statement.execute(definition);
+            }
+        }
+        newConnection.setAutoCommit(false);
+        connection = newConnection;
+        connectedFile = filePath;
+        return connection;
+    }
+
+    /**
+     * Returns the applicants in the rows of {@code applicants} aliased {@code a} that satisfy {@code where}, a
+     * {@code WHERE} clause with the given parameters, in order.
+     */
+    private static List<Applicant> queryApplicants(Connection connection, String where, List<Object> parameters)
+            throws SQLException, IllegalValueException {
+        Map<Integer, Set<Skill>> skills = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_SKILLS
+                + (where.isEmpty() ? "" : " WHERE applicant_id IN (SELECT a.id FROM applicants a" + where + ")"))) {
+            setParameters(statement, parameters);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    skills.computeIfAbsent(rows.getInt(1), id -> new HashSet<>()).add(toSkill(rows.getString(2)));
+                }
+            }
+        }
+
+        List<Applicant> applicants = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_APPLICANTS + where
+                + " ORDER BY a.list_index")) {
+            setParameters(statement, parameters);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    int id = rows.getInt("id");
+                    applicants.add(toApplicant(rows, skills.getOrDefault(id, Set.of())).withId(id));
+                }
+            }
+        }
+        return applicants;
+    }
+
+    private static int queryNextListIndex(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT COALESCE(MAX(list_index) + 1, 0) FROM applicants")) {
+            rows.next();
+            return rows.getInt(1);
+        }
+    }
+
+    private static void setParameters(PreparedStatement statement, List<Object> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+    }
+
+    /**
+     * Returns a condition that {@code column} contains every keyword of any of {@code keywordLists}, ignoring
+     * case, and adds its parameters to {@code parameters}.
+     */
+    private static String anyContaining(String column, Iterable<List<String>> keywordLists, List<Object> parameters) {
+        List<String> alternatives = new ArrayList<>();
+        for (List<String> keywords : keywordLists) {
+            List<String> conditions = new ArrayList<>();
+            for (String keyword : keywords) {
+                conditions.add("LOWER(" + column + ") LIKE ? ESCAPE '\\'");
+                parameters.add("%" + keyword.toLowerCase(Locale.ROOT).replaceAll("([\\\\%_])", "\\\\$1") + "%");
+            }
+            alternatives.add("(" + String.join(" AND ", conditions) + ")");
+        }
+        return "(" + String.join(" OR ", alternatives) + ")";
+    }
+
+    private void replaceAll(Connection connection, List<Applicant> applicants) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM skills");
+            statement.execute("DELETE FROM applicants");
+        }
+        // Applicants are saved with ids of their position in the list unless they all have ids
+        boolean hasIds = applicants.stream().allMatch(Applicant::hasId);
+        try (PreparedStatement insertApplicant = connection.prepareStatement(INSERT_APPLICANT);
+                PreparedStatement insertSkill = connection.prepareStatement(INSERT_SKILL)) {
+            for (int i = 0; i < applicants.size(); i++) {
+                Applicant applicant = hasIds ? applicants.get(i) : applicants.get(i).withId(i + 1);
+                insertApplicant.setInt(1, i);
+                setApplicantFields(insertApplicant, 1, applicant);
+                insertApplicant.addBatch();
+                addSkills(insertSkill, applicant);
+            }
+            insertApplicant.executeBatch();
+            insertSkill.executeBatch();
+        }
+    }
+
+    private void update(Connection connection, ApplicantChanges changes) throws SQLException {
+        try (PreparedStatement deleteApplicant = connection.prepareStatement(DELETE_APPLICANT);
+                PreparedStatement insertApplicant = connection.prepareStatement(INSERT_APPLICANT);
+                PreparedStatement updateApplicant = connection.prepareStatement(UPDATE_APPLICANT);
+                PreparedStatement deleteSkills = connection.prepareStatement(DELETE_SKILLS);
+                PreparedStatement insertSkill = connection.prepareStatement(INSERT_SKILL)) {
+            for (int id : changes.getDeletedIds()) {
+                deleteApplicant.setInt(1, id);
+                deleteApplicant.addBatch();
+            }
+            deleteApplicant.executeBatch();
+
+            for (Applicant applicant : changes.getUpdatedApplicants()) {
+                if (knownApplicants.containsKey(applicant.getId())) {
+                    setApplicantFields(updateApplicant, 0, applicant);
+                    updateApplicant.addBatch();
+                    deleteSkills.setInt(1, applicant.getId());
+                    deleteSkills.addBatch();
+                } else {
+                    insertApplicant.setInt(1, nextListIndex++);
+                    setApplicantFields(insertApplicant, 1, applicant);
+                    insertApplicant.addBatch();
+                }
+                addSkills(insertSkill, applicant);
+            }
+            updateApplicant.executeBatch();
+            insertApplicant.executeBatch();
+            deleteSkills.executeBatch();
+            insertSkill.executeBatch();
+        }
+    }
+
+    /**
+     * Sets the parameters of {@code statement}, an insert or update of an applicant, from the name at
+     * {@code offset + 1} to the id after the other fields.
+     */
+    private static void setApplicantFields(PreparedStatement statement, int offset, Applicant applicant)
+            throws SQLException {
+        statement.setString(offset + 1, applicant.getName().fullName);
+        statement.setString(offset + 2, applicant.getPhone().value);
+        statement.setString(offset + 3, applicant.getEmail().value);
+        statement.setString(offset + 4, applicant.getGrade().value);
+        statement.setBigDecimal(offset + 5, BigDecimal.valueOf(applicant.getGrade().hundredths, 2));
+        statement.setString(offset + 6, applicant.getInstitution().value);
+        statement.setString(offset + 7, applicant.getCourse().value);
+        statement.setInt(offset + 8, toColumnValue(applicant.getGraduationYearMonth()));
+        statement.setString(offset + 9, applicant.getJob().jobName);
+        statement.setString(offset + 10, applicant.getApplicationStatus().value.name());
+        statement.setInt(offset + 11, applicant.getId());
+    }
+
+    private static void addSkills(PreparedStatement insertSkill, Applicant applicant) throws SQLException {
+        for (Skill skill : applicant.getSkills()) {
+            insertSkill.setInt(1, applicant.getId());
+            insertSkill.setString(2, skill.skillName);
+            insertSkill.addBatch();
+        }
+    }
+
+    private static int toColumnValue(GraduationYearMonth graduationYearMonth) {
+        return graduationYearMonth.yearMonth.getYear() * 100 + graduationYearMonth.yearMonth.getMonthValue();
+    }
+
+    /**
+     * Returns the applicant in the current row of {@code rows}, with the given skills.
+     *
+     * @throws IllegalValueException if a field of the row is invalid.
+     */
+    private static Applicant toApplicant(ResultSet rows, Set<Skill> skills) throws SQLException,
+            IllegalValueException {
+        String name = rows.getString("name");
+        String phone = rows.getString("phone");
+        String email = rows.getString("email");
+        String grade = rows.getString("grade");
+        String institution = rows.getString("institution");
+        String course = rows.getString("course");
+        int graduation = rows.getInt("graduation");
+        if (graduation % 100 < 1 || graduation % 100 > 12) {
+            throw new IllegalValueException(GraduationYearMonth.MESSAGE_CONSTRAINTS);
+        }
+        String graduationYearMonth = YearMonth.of(graduation / 100, graduation % 100)
+                .format(GraduationYearMonth.DATE_TIME_FORMATTER);
+        String job = rows.getString("job");
+        String status = rows.getString("status");
+
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        } else if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        } else if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        } else if (!Grade.isValidGrade(grade)) {
+            throw new IllegalValueException(Grade.MESSAGE_CONSTRAINTS);
+        } else if (!Institution.isValidInstitution(institution)) {
+            throw new IllegalValueException(Institution.MESSAGE_CONSTRAINTS);
+        } else if (!Course.isValidCourse(course)) {
+            throw new IllegalValueException(Course.MESSAGE_CONSTRAINTS);
+        } else if (!Job.isValidJobName(job)) {
+            throw new IllegalValueException(Job.MESSAGE_CONSTRAINTS);
+        } else if (!ApplicationStatus.isValidStatus(status)) {
+            throw new IllegalValueException(ApplicationStatus.MESSAGE_CONSTRAINTS);
+        }
+        return new Applicant(new Name(name), new Phone(phone), new Email(email), new Grade(grade),
+                new Institution(institution), new Course(course), new GraduationYearMonth(graduationYearMonth),
+                new Job(job), new ApplicationStatus(status), skills);
+    }
+
+    private static Skill toSkill(String skillName) throws IllegalValueException {
+        if (!Skill.isValidSkillName(skillName)) {
+            throw new IllegalValueException(Skill.MESSAGE_CONSTRAINTS);
+        }
+        return new Skill(skillName);
+    }
+}
@@ -62,7 +62,7 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyInternWatcher> readInternWatcher(Path filePath)
             throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return internWatcherStorage.readInternWatcher(filePath);
     }
 
@@ -73,7 +73,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveInternWatcher(ReadOnlyInternWatcher internWatcher, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         internWatcherStorage.saveInternWatcher(internWatcher, filePath);
     }
 
@@ -0,0 +1,41 @@
+package seedu.intern.tools;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.storage.JsonLinesInternWatcherStorage;
+
+/**
+ * Compacts a JSON Lines data file while the app is not running, rewriting it with a single record for each
+ * applicant so that it no longer holds the records of earlier edits and deletions.
+ *
+ * Usage: {@code CompactData DATA_FILE}
+ */
+public class CompactData {
+
+    public static final String MESSAGE_USAGE = "Usage: CompactData DATA_FILE";
+
+    /**
+     * Compacts the data file as described in {@link CompactData}.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        if (args.length < 1) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path dataFile = Paths.get(args[0]);
+        if (!JsonLinesInternWatcherStorage.isJsonLinesFile(dataFile) || !Files.exists(dataFile)) {
+            System.err.println("Not a JSON Lines data file: " + dataFile);
+            System.exit(1);
+        }
+
+        long sizeBefore = Files.size(dataFile);
+        long start = System.nanoTime();
+        new JsonLinesInternWatcherStorage(dataFile).compact();
+        System.out.printf("Compacted %s from %d to %d bytes in %.2f s%n", dataFile, sizeBefore, Files.size(dataFile),
+                (System.nanoTime() - start) / 1e9);
+    }
+}
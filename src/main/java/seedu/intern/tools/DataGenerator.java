@@ -0,0 +1,45 @@
+package seedu.intern.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.storage.InternWatcherStorage;
+
+/**
+ * Writes a data file of applicants drawn from realistic distributions by {@code SyntheticDataGenerator}, which the
+ * app and {@code LoadTest} can then load.
+ *
+ * Usage: {@code DataGenerator APPLICANT_COUNT DATA_FILE [SEED]}
+ */
+public class DataGenerator {
+
+    public static final String MESSAGE_USAGE = "Usage: DataGenerator APPLICANT_COUNT DATA_FILE [SEED]";
+
+    /**
+     * Writes {@code count} applicants generated from {@code seed} to {@code dataFile}.
+     */
+    public static void generate(int count, Path dataFile, long seed) throws IOException {
+        ReadOnlyInternWatcher data = new SyntheticDataGenerator(seed).nextReadOnlyInternWatcher(count);
+        InternWatcherStorage.forFile(dataFile).saveInternWatcher(data);
+    }
+
+    /**
+     * Generates a data file as described in {@link DataGenerator}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        int count = Integer.parseInt(args[0]);
+        Path dataFile = Paths.get(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : LoadTest.DEFAULT_SEED;
+
+        long start = System.nanoTime();
+        generate(count, dataFile, seed);
+        System.out.printf("Wrote %d applicants to %s in %.2f s%n", count, dataFile, (System.nanoTime() - start) / 1e9);
+    }
+}
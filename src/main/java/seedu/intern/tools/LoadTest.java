@@ -0,0 +1,217 @@
+package seedu.intern.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import seedu.intern.commons.core.Config;
+import seedu.intern.commons.core.Histogram;
+import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.commons.core.MetricsCenter;
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.logic.Logic;
+import seedu.intern.logic.LogicManager;
+import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ModelManager;
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.UserPrefs;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.storage.InternWatcherStorage;
+import seedu.intern.storage.JsonInternWatcherStorage;
+import seedu.intern.storage.JsonLinesInternWatcherStorage;
+import seedu.intern.storage.JsonUserPrefsStorage;
+import seedu.intern.storage.SqlInternWatcherStorage;
+import seedu.intern.storage.StorageManager;
+
+/**
+ * Replays a script of commands through {@code Logic} without the UI, and reports the throughput and latency of the
+ * commands, to catch performance regressions with production-sized data.
+ *
+ * Usage: {@code LoadTest SCRIPT_FILE DATA_FILE|APPLICANT_COUNT [REPETITIONS] [SEED]}
+ * The script has one command per line, ignoring blank lines and lines starting with {@code #}. The data is read
+ * from {@code DATA_FILE}, or {@code APPLICANT_COUNT} applicants are generated from {@code SEED}. Changes are saved
+ * to a temporary copy, so the data file is left untouched.
+ */
+public class LoadTest {
+
+    public static final String MESSAGE_USAGE = "Usage: LoadTest SCRIPT_FILE DATA_FILE|APPLICANT_COUNT"
+            + " [REPETITIONS] [SEED]";
+    public static final long DEFAULT_SEED = 2103;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Logic logic;
+    private final List<String> commands;
+
+    /**
+     * Creates a load test that replays {@code commands} through {@code logic}.
+     */
+    public LoadTest(Logic logic, List<String> commands) {
+        requireNonNull(logic);
+        requireNonNull(commands);
+        this.logic = logic;
+        this.commands = commands;
+    }
+
+    /**
+     * Executes the commands {@code repetitions} times in order, then waits for the changes to be saved.
+     * Commands that fail are counted and skipped.
+     */
+    public Result run(int repetitions) throws InterruptedException {
+        Histogram latencies = new Histogram();
+        int failed = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            for (String command : commands) {
+                long commandStart = System.nanoTime();
+                try {
+                    logic.execute(command);
+                } catch (CommandException | ParseException e) {
+                    failed++;
+                }
+                latencies.record(System.nanoTime() - commandStart);
+            }
+        }
+        logic.awaitPendingSaves();
+        return new Result(latencies, failed, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the commands in the script at {@code scriptFile}.
+     */
+    public static List<String> readScript(Path scriptFile) throws IOException {
+        return Files.readAllLines(scriptFile).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs a load test as described in {@link LoadTest}, printing its results and the metrics recorded.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        quietenLogging();
+
+        List<String> commands = readScript(Paths.get(args[0]));
+        int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        ReadOnlyInternWatcher data = loadData(args[1], seed);
+        System.out.println("Replaying " + commands.size() + " commands " + repetitions + " times on "
+                + data.getApplicantList().size() + " applicants");
+
+        Path saveDirectory = Files.createTempDirectory("internwatcher-loadtest");
+        StorageManager storage = new StorageManager(
+                InternWatcherStorage.forFile(saveDirectory.resolve(getSaveFileName(args[1]))),
+                new JsonUserPrefsStorage(saveDirectory.resolve("preferences.json")));
+        // saves are made as part of each command, so that the latencies include them
+        Logic logic = new LogicManager(new ModelManager(data, new UserPrefs()), storage);
+
+        MetricsCenter.reset();
+        Result result = new LoadTest(logic, commands).run(repetitions);
+        System.out.println(result);
+        System.out.println(MetricsCenter.report());
+    }
+
+    private static void quietenLogging() {
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns the name of the file to save changes to, which is in the same format as the data at {@code source}:
+     * a json file for generated applicants or a json data file, and otherwise a JSON Lines file, an H2 database or
+     * a sharded directory like the data file.
+     */
+    private static String getSaveFileName(String source) {
+        if (source.matches("\\d+")) {
+            return "internwatcher.json";
+        }
+        Path dataFile = Paths.get(source);
+        if (JsonLinesInternWatcherStorage.isJsonLinesFile(dataFile)) {
+            return "internwatcher" + JsonLinesInternWatcherStorage.FILE_EXTENSION;
+        } else if (SqlInternWatcherStorage.isDatabaseFile(dataFile)) {
+            return "internwatcher" + SqlInternWatcherStorage.FILE_EXTENSION;
+        } else if (JsonInternWatcherStorage.isDirectoryPath(dataFile)) {
+            // a path without a file extension is saved as a directory
+            return "internwatcher";
+        }
+        return "internwatcher.json";
+    }
+
+    /**
+     * Returns the data in the file at {@code source}, or {@code source} applicants generated from {@code seed} if
+     * {@code source} is a number.
+     */
+    private static ReadOnlyInternWatcher loadData(String source, long seed) throws IOException,
+            DataConversionException {
+        if (source.matches("\\d+")) {
+            InternWatcher internWatcher = new InternWatcher();
+            internWatcher.setApplicants(new SyntheticDataGenerator(seed).nextApplicants(Integer.parseInt(source)));
+            return internWatcher;
+        }
+        Path dataFile = Paths.get(source);
+        return InternWatcherStorage.forFile(dataFile).readInternWatcher()
+                .orElseThrow(() -> new IOException("Data file not found: " + dataFile));
+    }
+
+    /**
+     * The results of a load test.
+     */
+    public static class Result {
+        private final Histogram latencies;
+        private final int failed;
+        private final long elapsedNanos;
+
+        /**
+         * Creates the results of a load test with the latencies of the commands executed, the number of commands
+         * that failed, and the time taken.
+         */
+        public Result(Histogram latencies, int failed, long elapsedNanos) {
+            this.latencies = latencies;
+            this.failed = failed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getExecuted() {
+            return latencies.getCount();
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public Histogram getLatencies() {
+            return latencies;
+        }
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : getExecuted() * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Executed %d commands (%d failed) in %.2f s: %.1f commands/s%n"
+                            + "Latency (ms): mean=%.2f p50=%.2f p90=%.2f p99=%.2f max=%.2f",
+                    getExecuted(), failed, elapsedNanos / 1e9, getThroughput(),
+                    latencies.getMean() / NANOS_PER_MILLI, latencies.getPercentile(50) / NANOS_PER_MILLI,
+                    latencies.getPercentile(90) / NANOS_PER_MILLI, latencies.getPercentile(99) / NANOS_PER_MILLI,
+                    latencies.getMax() / NANOS_PER_MILLI);
+        }
+    }
+}
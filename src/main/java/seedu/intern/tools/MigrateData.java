@@ -0,0 +1,69 @@
+package seedu.intern.tools;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.storage.InternWatcherStorage;
+import seedu.intern.storage.SqlInternWatcherStorage;
+
+/**
+ * Copies the applicants in a data file to another data file, in the format given by the extension of each file,
+ * e.g. from the json data file to an H2 database. The source file is left as it is.
+ *
+ * Usage: {@code MigrateData SOURCE_FILE TARGET_FILE}
+ */
+public class MigrateData {
+
+    public static final String MESSAGE_USAGE = "Usage: MigrateData SOURCE_FILE TARGET_FILE";
+
+    /**
+     * Writes the applicants in {@code source} to {@code target}, replacing the applicants in it, and returns the
+     * number of applicants written.
+     *
+     * @throws IOException if {@code source} does not exist, or either file could not be read or written.
+     * @throws DataConversionException if {@code source} is not in the correct format.
+     */
+    public static int migrate(Path source, Path target) throws IOException, DataConversionException {
+        InternWatcherStorage sourceStorage = InternWatcherStorage.forFile(source);
+        InternWatcherStorage targetStorage = InternWatcherStorage.forFile(target);
+        try {
+            ReadOnlyInternWatcher data = sourceStorage.readInternWatcher()
+                    .orElseThrow(() -> new IOException("Data file not found: " + source));
+            targetStorage.saveInternWatcher(data);
+            return data.getApplicantList().size();
+        } finally {
+            close(sourceStorage);
+            close(targetStorage);
+        }
+    }
+
+    private static void close(InternWatcherStorage storage) throws IOException {
+        if (storage instanceof SqlInternWatcherStorage) {
+            ((SqlInternWatcherStorage) storage).close();
+        }
+    }
+
+    /**
+     * Migrates the data file as described in {@link MigrateData}.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        if (args.length < 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        if (Files.exists(target)) {
+            System.out.println("Replacing the applicants in " + target);
+        }
+
+        long start = System.nanoTime();
+        int count = migrate(source, target);
+        System.out.printf("Copied %d applicants from %s to %s in %.2f s%n", count, source, target,
+                (System.nanoTime() - start) / 1e9);
+    }
+}
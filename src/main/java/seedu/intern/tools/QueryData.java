@@ -0,0 +1,80 @@
+package seedu.intern.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.logic.commands.FilterCommand.FilterApplicantDescriptor;
+import seedu.intern.logic.parser.FilterCommandParser;
+import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.CombineFiltersPredicate;
+import seedu.intern.storage.InternWatcherStorage;
+import seedu.intern.storage.SqlInternWatcherStorage;
+
+/**
+ * Prints the applicants in a data file that match the conditions of a {@code filter} command, without starting the
+ * app. In an H2 database, the conditions are tested in SQL, so only the rows likely to match are read. Other data
+ * files are read whole, then filtered.
+ *
+ * Usage: {@code QueryData DATA_FILE FILTER_CONDITIONS...}, e.g. {@code QueryData data/internwatcher.mv.db g/4.00 s/Java}
+ */
+public class QueryData {
+
+    public static final String MESSAGE_USAGE = "Usage: QueryData DATA_FILE FILTER_CONDITIONS...";
+
+    /**
+     * Returns the applicants in {@code dataFile} that match {@code descriptor}, in order.
+     *
+     * @throws IOException if {@code dataFile} does not exist or could not be read.
+     * @throws DataConversionException if {@code dataFile} is not in the correct format.
+     */
+    public static List<Applicant> query(Path dataFile, FilterApplicantDescriptor descriptor)
+            throws IOException, DataConversionException {
+        InternWatcherStorage storage = InternWatcherStorage.forFile(dataFile);
+        if (storage instanceof SqlInternWatcherStorage) {
+            SqlInternWatcherStorage sqlStorage = (SqlInternWatcherStorage) storage;
+            try {
+                return sqlStorage.findApplicants(descriptor);
+            } finally {
+                sqlStorage.close();
+            }
+        }
+
+        return storage.readInternWatcher()
+                .orElseThrow(() -> new IOException("Data file not found: " + dataFile))
+                .getApplicantList().stream()
+                .filter(new CombineFiltersPredicate(descriptor))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Queries the data file as described in {@link QueryData}.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        if (args.length < 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path dataFile = Paths.get(args[0]);
+        FilterApplicantDescriptor descriptor;
+        try {
+            descriptor = new FilterCommandParser().parseDescriptor(
+                    " " + String.join(" ", Arrays.asList(args).subList(1, args.length)));
+        } catch (ParseException pe) {
+            System.err.println(pe.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<Applicant> applicants = query(dataFile, descriptor);
+        applicants.forEach(System.out::println);
+        System.out.printf("%d applicants found in %s in %.2f s%n", applicants.size(), dataFile,
+                (System.nanoTime() - start) / 1e9);
+    }
+}
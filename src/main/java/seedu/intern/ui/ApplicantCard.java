@@ -1,11 +1,16 @@
 package seedu.intern.ui;
 
+import java.util.Arrays;
+import java.util.Locale;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus.Status;
 
 /**
  * An UI component that displays information of a {@code Applicant}.
@@ -13,6 +18,11 @@ import seedu.intern.model.applicant.Applicant;
 public class ApplicantCard extends UiPart<Region> {
 
     private static final String FXML = "ApplicantListCard.fxml";
+    private static final String EVEN_ROW_STYLE_CLASS = "applicant-card-even";
+    private static final String ODD_ROW_STYLE_CLASS = "applicant-card-odd";
+    private static final String[] STATUS_STYLE_CLASSES = Arrays.stream(Status.values())
+            .map(status -> "status-" + status.name().toLowerCase(Locale.ROOT))
+            .toArray(String[]::new);
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -22,7 +32,7 @@ public class ApplicantCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Applicant applicant;
+    private Applicant applicant;
 
     @FXML
     private HBox cardPane;
@@ -39,29 +49,52 @@ public class ApplicantCard extends UiPart<Region> {
     @FXML
     private Label status;
 
+    /**
+     * Creates an empty {@code ApplicantCard}, to be bound to applicants with {@link #setApplicant(Applicant, int)}.
+     */
+    public ApplicantCard() {
+        super(FXML);
+    }
 
     /**
      * Creates a {@code ApplicantCode} with the given {@code Applicant} and index to display.
      */
     public ApplicantCard(Applicant applicant, int displayedIndex) {
-        super(FXML);
+        this();
+        setApplicant(applicant, displayedIndex);
+    }
+
+    /**
+     * Updates the card to display the given {@code Applicant} and index, reusing the loaded labels.
+     */
+    public void setApplicant(Applicant applicant, int displayedIndex) {
         this.applicant = applicant;
-        this.cardPane.setStyle(setColour(displayedIndex));
+        setStyleClass(cardPane, displayedIndex % 2 == 0 ? EVEN_ROW_STYLE_CLASS : ODD_ROW_STYLE_CLASS,
+                EVEN_ROW_STYLE_CLASS, ODD_ROW_STYLE_CLASS);
         id.setText(displayedIndex + ". ");
         name.setText(applicant.getName().fullName);
         phone.setText(applicant.getPhone().value);
         email.setText(applicant.getEmail().value);
         job.setText(applicant.getJob().jobName);
         status.setText(applicant.getApplicationStatus().value.toString());
-        status.setStyle(String.format("-fx-background-color: %s;", applicant.getApplicationStatus().getColour()));
+        setStyleClass(status, STATUS_STYLE_CLASSES[applicant.getApplicationStatus().value.ordinal()],
+                STATUS_STYLE_CLASSES);
+    }
+
+    public Applicant getApplicant() {
+        return applicant;
     }
 
-    public String setColour(int index) {
-        if (index % 2 == 0) {
-            return "-fx-background-color: #decbc6;";
-        } else {
-            return "-fx-background-color: #c9ada7;";
+    /**
+     * Gives {@code node} the style class {@code toAdd} in place of any of the {@code alternatives} it has.
+     */
+    private static void setStyleClass(Node node, String toAdd, String... alternatives) {
+        ObservableList<String> styleClasses = node.getStyleClass();
+        if (styleClasses.contains(toAdd)) {
+            return;
         }
+        styleClasses.removeAll(alternatives);
+        styleClasses.add(toAdd);
     }
 
     @Override
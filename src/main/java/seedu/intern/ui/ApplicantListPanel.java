@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
@@ -16,6 +17,7 @@ import seedu.intern.model.applicant.Applicant;
  */
 public class ApplicantListPanel extends UiPart<Region> {
     private static final String FXML = "ApplicantListPanel.fxml";
+    private static final String MESSAGE_LOADING = "Loading applicants...";
     private final Logger logger = LogsCenter.getLogger(ApplicantListPanel.class);
 
     @FXML
@@ -32,8 +34,12 @@ public class ApplicantListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Applicant} using a {@code ApplicantCard}.
+     * Each cell loads one card when it is first filled, and rebinds that card as the cell is reused for other
+     * applicants while scrolling.
      */
     class ApplicantListViewCell extends ListCell<Applicant> {
+        private ApplicantCard card;
+
         @Override
         protected void updateItem(Applicant applicant, boolean empty) {
             super.updateItem(applicant, empty);
@@ -41,11 +47,23 @@ public class ApplicantListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ApplicantCard(applicant, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ApplicantCard();
+                }
+                card.setApplicant(applicant, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
 
+    /**
+     * Shows a loading message in place of the list while it is empty if {@code isLoading}, and the default
+     * placeholder otherwise.
+     */
+    public void setLoading(boolean isLoading) {
+        applicantListView.setPlaceholder(isLoading ? new Label(MESSAGE_LOADING) : null);
+    }
+
     /**
      * Selects the provided applicant.
      *
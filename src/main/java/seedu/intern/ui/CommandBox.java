@@ -1,12 +1,12 @@
 package seedu.intern.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.intern.logic.commands.CommandResult;
-import seedu.intern.logic.commands.exceptions.CommandException;
-import seedu.intern.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -41,11 +41,22 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Disables entering commands if {@code isDisabled}, and enables it otherwise.
+     */
+    public void setDisabled(boolean isDisabled) {
+        commandTextField.setDisable(isDisabled);
+        if (!isDisabled) {
+            commandTextField.requestFocus();
         }
     }
 
@@ -75,11 +86,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns its result, which completes on the JavaFX application thread.
          *
-         * @see seedu.intern.logic.Logic#execute(String)
+         * @see seedu.intern.logic.Logic#executeInBackground(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -1,22 +1,26 @@
 //@@author
 package seedu.intern.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.intern.commons.core.GuiSettings;
 import seedu.intern.commons.core.LogsCenter;
+import seedu.intern.logic.BackgroundTaskListener;
 import seedu.intern.logic.Logic;
+import seedu.intern.logic.SaveListener;
 import seedu.intern.logic.commands.CommandResult;
-import seedu.intern.logic.commands.exceptions.CommandException;
-import seedu.intern.logic.parser.exceptions.ParseException;
 import seedu.intern.model.applicant.Applicant;
 
 /**
@@ -26,6 +30,7 @@ import seedu.intern.model.applicant.Applicant;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading applicants from the data file...";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -37,6 +42,13 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private ApplicantDetailPanel applicantDetail;
+    private StatisticsPanel statisticsPanel;
+    private StatusBarFooter statusBarFooter;
+    private CommandBox commandBox;
+
+    // The number of commands and exports running, which can be cancelled while it is positive
+    private int runningTasks = 0;
+    private BackgroundTaskListener backgroundTaskListener;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -56,6 +68,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane applicantDetailPlaceholder;
 
+    @FXML
+    private StackPane statisticsPanelPlaceholder;
+
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
      */
@@ -80,6 +95,12 @@ public class MainWindow extends UiPart<Stage> {
 
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
+        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE && runningTasks > 0) {
+                logic.cancel();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -122,8 +143,46 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getInternWatcherFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getInternWatcherFilePath());
+        statusBarFooter.setFunnel(logic.getApplicantCounters());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setSaveListener(new SaveListener() {
+            @Override
+            public void saveStarted() {
+                Platform.runLater(() -> statusBarFooter.setSaving(true));
+            }
+
+            @Override
+            public void saveSucceeded() {
+                Platform.runLater(() -> statusBarFooter.setSaving(false));
+            }
+
+            @Override
+            public void saveFailed(String errorMessage) {
+                Platform.runLater(() -> {
+                    statusBarFooter.setSaving(false);
+                    resultDisplay.setFeedbackToUser(errorMessage);
+                });
+            }
+        });
+
+        backgroundTaskListener = new BackgroundTaskListener() {
+            @Override
+            public void taskSucceeded(String message) {
+                Platform.runLater(() -> {
+                    resultDisplay.setFeedbackToUser(message);
+                    updateRunningTasks(-1);
+                });
+            }
+
+            @Override
+            public void taskFailed(String errorMessage) {
+                Platform.runLater(() -> {
+                    resultDisplay.setFeedbackToUser(errorMessage);
+                    updateRunningTasks(-1);
+                });
+            }
+        };
 
         applicantDetail = new ApplicantDetailPanel();
         applicantDetailPlaceholder.getChildren().add(applicantDetail.getRoot());
@@ -131,7 +190,12 @@ public class MainWindow extends UiPart<Stage> {
             applicantDetail.showApplicant(newValue, false);
         });
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        statusBarFooter.setOnCancel(logic::cancel);
+
+        statisticsPanel = new StatisticsPanel();
+        statisticsPanelPlaceholder.getChildren().add(statisticsPanel.getRoot());
+
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -163,6 +227,17 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows that the applicants are being loaded and disables commands if {@code isLoading}, and otherwise shows
+     * the loaded applicants and enables commands.
+     */
+    void setLoading(boolean isLoading) {
+        applicantListPanel.setLoading(isLoading);
+        commandBox.setDisabled(isLoading);
+        resultDisplay.setFeedbackToUser(isLoading ? MESSAGE_LOADING : "");
+        statusBarFooter.setFunnel(logic.getApplicantCounters());
+    }
+
     /**
      * Closes the application.
      */
@@ -180,15 +255,33 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the command thread, and shows the result once it is done. Commands are disabled until
+     * then, while the window stays responsive and the command can be cancelled.
      *
-     * @see seedu.intern.logic.Logic#execute(String)
+     * @see seedu.intern.logic.Logic#executeInBackground(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        commandBox.setDisabled(true);
+        updateRunningTasks(1);
+        return logic.executeInBackground(commandText).whenCompleteAsync((commandResult, error) -> {
+            updateRunningTasks(-1);
+            commandBox.setDisabled(false);
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info(() -> "Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                return;
+            }
+
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            statusBarFooter.setFunnel(logic.getApplicantCounters());
+            // listened to only once the result is shown, so that a task that has already finished is not
+            // reported before the result of its command
+            commandResult.getBackgroundTask().ifPresent(task -> {
+                updateRunningTasks(1);
+                logic.notifyWhenFinished(task, backgroundTaskListener);
+            });
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -201,12 +294,16 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isView()) {
                 handleView(logic.getApplicant(), logic.getIsToggle());
             }
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+
+            if (commandResult.isStats()) {
+                statisticsPanel.showStatistics(logic.getApplicantStatistics());
+            }
+        }, Platform::runLater);
+    }
+
+    private void updateRunningTasks(int change) {
+        runningTasks += change;
+        statusBarFooter.setRunning(runningTasks > 0);
     }
 
     private void handleView(Applicant applicant, boolean isToggle) {
@@ -0,0 +1,82 @@
+package seedu.intern.ui;
+
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.intern.model.ApplicantStatistics;
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+
+/**
+ * Panel containing the statistics of the listed applicants.
+ */
+public class StatisticsPanel extends UiPart<Region> {
+
+    private static final String FXML = "StatisticsPanel.fxml";
+    private static final String NO_STATISTICS = "Enter \"stats\" to see the statistics of the listed applicants";
+
+    @FXML
+    private Label total;
+
+    @FXML
+    private Label funnel;
+
+    @FXML
+    private Label grades;
+
+    @FXML
+    private Label cohorts;
+
+    @FXML
+    private Label institutions;
+
+    @FXML
+    private Label skills;
+
+    /**
+     * Creates an empty {@code StatisticsPanel}.
+     */
+    public StatisticsPanel() {
+        super(FXML);
+        total.setText(NO_STATISTICS);
+    }
+
+    /**
+     * Sets the panel to display the given {@code statistics}.
+     */
+    public void showStatistics(ApplicantStatistics statistics) {
+        total.setText("Statistics of " + statistics.getTotal() + " applicants");
+
+        StringJoiner funnelText = new StringJoiner("\n");
+        for (Status status : Status.values()) {
+            funnelText.add(status + ": " + statistics.getStatusCount(status));
+        }
+        funnel.setText(funnelText.toString());
+
+        StringJoiner gradesText = new StringJoiner("\n");
+        int[] gradeCounts = statistics.getGradeCounts();
+        for (int i = gradeCounts.length - 1; i >= 0; i--) {
+            if (gradeCounts[i] > 0) {
+                gradesText.add(ApplicantStatistics.getGradeBucketLabel(i) + ": " + gradeCounts[i]);
+            }
+        }
+        grades.setText(gradesText.toString());
+
+        StringJoiner cohortsText = new StringJoiner("\n");
+        statistics.getCohortCounts().forEach((year, count) -> cohortsText.add(year + ": " + count));
+        cohorts.setText(cohortsText.toString());
+
+        institutions.setText(toText(statistics.getTopInstitutions(), institution -> institution.value));
+        skills.setText(toText(statistics.getTopSkills(), skill -> skill.skillName));
+    }
+
+    private static <T> String toText(List<Map.Entry<T, Integer>> counts, Function<T, String> name) {
+        StringJoiner text = new StringJoiner("\n");
+        counts.forEach(entry -> text.add(name.apply(entry.getKey()) + ": " + entry.getValue()));
+        return text.toString();
+    }
+}
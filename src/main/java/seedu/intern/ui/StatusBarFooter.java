@@ -4,8 +4,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.Region;
+import seedu.intern.model.applicant.ApplicantCounters;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -17,6 +20,20 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private ProgressIndicator saveProgress;
+
+    @FXML
+    private ProgressIndicator runningProgress;
+
+    @FXML
+    private Button cancelButton;
+
+    @FXML
+    private Label funnelStatus;
+
+    private Runnable cancelHandler = () -> {};
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +42,38 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows or hides the indicator that the intern watcher is being saved.
+     */
+    public void setSaving(boolean isSaving) {
+        saveProgress.setVisible(isSaving);
+    }
+
+    /**
+     * Shows or hides the indicator that a command or an export is running, with the button to cancel it.
+     */
+    public void setRunning(boolean isRunning) {
+        runningProgress.setVisible(isRunning);
+        cancelButton.setVisible(isRunning);
+    }
+
+    /**
+     * Sets what is done when the cancel button is pressed.
+     */
+    public void setOnCancel(Runnable cancelHandler) {
+        this.cancelHandler = cancelHandler;
+    }
+
+    @FXML
+    private void handleCancel() {
+        cancelHandler.run();
+    }
+
+    /**
+     * Shows the number of applicants in each application status from the given {@code counters}.
+     */
+    public void setFunnel(ApplicantCounters counters) {
+        funnelStatus.setText(counters.toString());
+    }
+
 }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows that the applicants are being loaded, disabling commands until they are, if {@code isLoading}. */
+    void setLoading(boolean isLoading);
+
 }
@@ -51,6 +51,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void setLoading(boolean isLoading) {
+        mainWindow.setLoading(isLoading);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -37,6 +37,17 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_exitAfterStart_success() {
+        parametersStub.namedParameters.put("exitAfterStart", "true");
+        expected.setExitAfterStart(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("exitAfterStart", "no");
+        expected.setExitAfterStart(false);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,116 @@
+package seedu.intern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.logic.LogicManager;
+import seedu.intern.logic.commands.ExportCommand;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ModelManager;
+import seedu.intern.model.UserPrefs;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.storage.JsonInternWatcherStorage;
+import seedu.intern.storage.JsonUserPrefsStorage;
+import seedu.intern.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private ModelManager model;
+    private StorageManager storage;
+    private LogicManager logic;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() {
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(1).nextApplicants(10));
+        model = new ModelManager(internWatcher, new UserPrefs());
+        storage = new StorageManager(new JsonInternWatcherStorage(temporaryFolder.resolve("internwatcher.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void run_allCommandsSucceed_savesAndReturnsSuccess() throws Exception {
+        int exitCode = run(0, "# tidy up", "list", "", "delete 1", "delete 1");
+
+        assertEquals(BatchRunner.EXIT_SUCCESS, exitCode);
+        assertEquals(8, storage.readInternWatcher().get().getApplicantList().size());
+        assertTrue(out.toString().contains(String.format(BatchRunner.MESSAGE_SUMMARY, 3, 0)));
+    }
+
+    @Test
+    public void run_commandFails_continuesAndReturnsFailure() throws Exception {
+        int exitCode = run(0, "delete 1", "unknown command", "delete 100", "delete 1");
+
+        assertEquals(BatchRunner.EXIT_COMMAND_FAILED, exitCode);
+        assertEquals(8, storage.readInternWatcher().get().getApplicantList().size());
+        assertTrue(err.toString().contains("Line 2: unknown command"));
+        assertTrue(err.toString().contains("Line 3: delete 100"));
+        assertTrue(out.toString().contains(String.format(BatchRunner.MESSAGE_SUMMARY, 4, 2)));
+    }
+
+    @Test
+    public void run_exportFails_returnsFailure() throws Exception {
+        // the export file cannot be created under a regular file
+        Path exportFile = Files.createFile(temporaryFolder.resolve("notADirectory")).resolve("applicants.csv");
+        Path exportedFile = temporaryFolder.resolve("applicants.csv");
+
+        int exitCode = run(0, "export " + exportedFile, "export " + exportFile);
+
+        assertEquals(BatchRunner.EXIT_COMMAND_FAILED, exitCode);
+        assertTrue(Files.exists(exportedFile));
+        assertTrue(out.toString().contains(String.format(ExportCommand.MESSAGE_EXPORTED, 10, exportedFile)));
+        assertTrue(err.toString().contains("Line 2: export " + exportFile));
+        assertTrue(out.toString().contains(String.format(BatchRunner.MESSAGE_SUMMARY, 2, 1)));
+    }
+
+    @Test
+    public void run_exitCommand_stopsBatch() throws Exception {
+        int exitCode = run(0, "delete 1", "exit", "delete 1");
+
+        assertEquals(BatchRunner.EXIT_SUCCESS, exitCode);
+        assertEquals(9, storage.readInternWatcher().get().getApplicantList().size());
+    }
+
+    @Test
+    public void run_checkpoint_savesDuringBatch() throws Exception {
+        BatchRunner runner = new BatchRunner(logic, 2, new PrintStream(out), new PrintStream(err));
+        List<Boolean> isSavedBeforeLine = new ArrayList<>();
+        BufferedReader commands = new BufferedReader(new StringReader("delete 1\ndelete 1\ndelete 1\n")) {
+            @Override
+            public String readLine() throws IOException {
+                isSavedBeforeLine.add(Files.exists(temporaryFolder.resolve("internwatcher.json")));
+                return super.readLine();
+            }
+        };
+
+        assertEquals(BatchRunner.EXIT_SUCCESS, runner.run(commands));
+        assertEquals(Arrays.asList(false, false, true, true), isSavedBeforeLine);
+        assertEquals(7, storage.readInternWatcher().get().getApplicantList().size());
+    }
+
+    private int run(int checkpointInterval, String... lines) {
+        BatchRunner runner = new BatchRunner(logic, checkpointInterval, new PrintStream(out), new PrintStream(err));
+        return runner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+}
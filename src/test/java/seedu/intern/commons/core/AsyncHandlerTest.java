@@ -0,0 +1,103 @@
+package seedu.intern.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncHandlerTest {
+
+    @Test
+    public void publish_thenFlush_recordsPassedOnInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(128, List.of(target));
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.messages.get(i));
+        }
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(16, List.of(target));
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.flush();
+
+        assertEquals(List.of("info"), target.messages);
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFull_dropsAndReports() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(release);
+        AsyncHandler handler = new AsyncHandler(1, List.of(target));
+
+        handler.publish(new LogRecord(Level.INFO, "blocked"));
+        target.started.await();
+        handler.publish(new LogRecord(Level.INFO, "queued"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        release.countDown();
+        handler.flush();
+        assertEquals(3, target.messages.size());
+        assertEquals("blocked", target.messages.get(0));
+        assertTrue(target.messages.get(1).startsWith("1 log records were dropped"));
+        assertEquals("queued", target.messages.get(2));
+        handler.close();
+    }
+
+    /**
+     * A handler that keeps the messages of the records it is given, optionally waiting on a latch for each record.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingHandler() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
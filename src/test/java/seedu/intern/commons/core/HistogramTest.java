@@ -0,0 +1,53 @@
+package seedu.intern.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void getPercentile_empty_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(9, histogram.getPercentile(90));
+        assertEquals(10, histogram.getPercentile(100));
+        assertEquals(5.5, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinRelativeError() {
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        assertRoughlyEquals(50_000_000, histogram.getPercentile(50));
+        assertRoughlyEquals(99_000_000, histogram.getPercentile(99));
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(100_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void record_extremeValues_recorded() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    private static void assertRoughlyEquals(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.intern.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+
+    @AfterEach
+    public void tearDown() {
+        LogsCenter.init(new Config());
+    }
+
+    @Test
+    public void init_higherLevel_existingAndNewLoggersSkipLowerMessages() {
+        Logger existingLogger = LogsCenter.getLogger("LogsCenterTestExisting");
+        assertTrue(existingLogger.isLoggable(Level.INFO));
+
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        assertFalse(existingLogger.isLoggable(Level.INFO));
+        assertTrue(existingLogger.isLoggable(Level.WARNING));
+        assertFalse(LogsCenter.getLogger("LogsCenterTestNew").isLoggable(Level.INFO));
+    }
+
+    @Test
+    public void init_lowerLevel_lowerMessagesLogged() {
+        Config config = new Config();
+        config.setLogLevel(Level.FINE);
+        LogsCenter.init(config);
+
+        Logger logger = LogsCenter.getLogger("LogsCenterTestFine");
+        assertTrue(logger.isLoggable(Level.FINE));
+        assertTrue(logger.getHandlers()[0].isLoggable(new LogRecord(Level.FINE, "message")));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.intern.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MetricsCenterTest {
+
+    @BeforeEach
+    @AfterEach
+    public void resetMetrics() {
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void increment_countsPerName() {
+        MetricsCenter.increment("a");
+        MetricsCenter.increment("a");
+        MetricsCenter.increment("b");
+        assertEquals(2, MetricsCenter.getCount("a"));
+        assertEquals(1, MetricsCenter.getCount("b"));
+        assertEquals(0, MetricsCenter.getCount("c"));
+    }
+
+    @Test
+    public void recordTime_recordsElapsedNanoseconds() {
+        long start = System.nanoTime();
+        MetricsCenter.recordTime("timer", start);
+        assertEquals(1, MetricsCenter.getTimer("timer").getCount());
+        assertTrue(MetricsCenter.getTimer("timer").getMax() >= 0);
+    }
+
+    @Test
+    public void report_listsAllMetrics() {
+        assertEquals("No metrics recorded yet", MetricsCenter.report());
+
+        MetricsCenter.increment("commands");
+        MetricsCenter.recordTime("parse", System.nanoTime());
+        MetricsCenter.record("save.bytes", 100);
+        String report = MetricsCenter.report();
+        assertTrue(report.contains("commands: 1"));
+        assertTrue(report.contains("parse (ms): count=1"));
+        assertTrue(report.contains("save.bytes: count=1 mean=100.00"));
+    }
+
+    @Test
+    public void startPeriodicDump_nonPositivePeriod_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                MetricsCenter.startPeriodicDump(Paths.get("metrics.txt"), 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                MetricsCenter.startPeriodicDump(Paths.get("metrics.txt"), -1));
+    }
+}
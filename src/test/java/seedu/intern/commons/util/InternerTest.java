@@ -0,0 +1,51 @@
+package seedu.intern.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("value");
+        String second = new String("value");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keptApart() {
+        assertEquals("one", interner.intern("one"));
+        assertEquals("two", interner.intern("two"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_inParallel_oneInstancePerValue() {
+        List<String> interned = IntStream.range(0, 10000)
+                .parallel()
+                .mapToObj(i -> interner.intern(new String("value " + i % 10)))
+                .collect(Collectors.toList());
+
+        for (String value : interned) {
+            assertSame(interner.intern(value), value);
+        }
+        assertEquals(10, interner.size());
+    }
+}
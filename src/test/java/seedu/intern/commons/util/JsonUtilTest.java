@@ -1,12 +1,20 @@
 package seedu.intern.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import seedu.intern.testutil.SerializableTestClass;
 import seedu.intern.testutil.TestUtil;
 
@@ -27,6 +35,17 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_serializationFails_fileUnchanged() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertThrows(IOException.class, () ->
+                JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, new UnserializableTestClass()));
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(FileUtil.isFileExists(SERIALIZATION_FILE.resolveSibling("serialize.json.part")));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -39,7 +58,46 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFileIfChanged_unchangedFile_notWritten() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{}");
+
+        assertTrue(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void writeJsonLines_oneValuePerLine() throws IOException {
+        StringWriter writer = new StringWriter();
+        JsonUtil.writeJsonLines(writer, Arrays.asList("a", 1, Collections.singletonMap("b", 2)));
+        assertEquals("\"a\"\n1\n{\"b\":2}\n", writer.toString());
+
+        StringWriter emptyWriter = new StringWriter();
+        JsonUtil.writeJsonLines(emptyWriter, Collections.emptyList());
+        assertEquals("", emptyWriter.toString());
+    }
+
+    @Test
+    public void readJsonTree_thenFromJsonNode_correctObject() throws IOException {
+        JsonNode node = JsonUtil.readJsonTree(SerializableTestClass.JSON_STRING_REPRESENTATION);
+        assertTrue(node.has("name"));
+
+        SerializableTestClass fromNode = JsonUtil.fromJsonNode(node, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), fromNode.getName());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
+
+    /**
+     * A class whose second field has no serializer, so that serializing it fails after its first field is written.
+     */
+    private static class UnserializableTestClass {
+        private final String name = "written";
+        private final Object unserializable = new Object();
+    }
 }
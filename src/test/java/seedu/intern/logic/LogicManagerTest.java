@@ -1,6 +1,8 @@
 package seedu.intern.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.intern.commons.core.Messages.MESSAGE_INVALID_APPLICANT_DISPLAYED_INDEX;
 import static seedu.intern.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.intern.logic.commands.CommandTestUtil.COURSE_DESC_AMY;
@@ -13,19 +15,29 @@ import static seedu.intern.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.intern.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.intern.testutil.Assert.assertThrows;
 import static seedu.intern.testutil.TypicalApplicants.AMY;
+import static seedu.intern.testutil.TypicalApplicants.getTypicalInternWatcher;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.intern.commons.core.MetricsCenter;
 import seedu.intern.logic.commands.AddCommand;
 import seedu.intern.logic.commands.CommandResult;
+import seedu.intern.logic.commands.ExportCommand;
 import seedu.intern.logic.commands.ListCommand;
 import seedu.intern.logic.commands.exceptions.CommandException;
 import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.model.InternWatcher;
 import seedu.intern.model.Model;
 import seedu.intern.model.ModelManager;
 import seedu.intern.model.ReadOnlyInternWatcher;
@@ -72,6 +84,18 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsMetrics() throws Exception {
+        MetricsCenter.reset();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, MetricsCenter.getCount("commands"));
+        assertEquals(1, MetricsCenter.getTimer("parse").getCount());
+        assertEquals(1, MetricsCenter.getTimer("execute." + ListCommand.COMMAND_WORD).getCount());
+        // list changes nothing, so nothing is saved
+        assertEquals(0, MetricsCenter.getTimer("save").getCount());
+        MetricsCenter.reset();
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonInternWatcherIoExceptionThrowingStub
@@ -93,6 +117,157 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_savingInBackground_savesLatestState() throws Exception {
+        JsonInternWatcherStorage internWatcherStorage =
+                new JsonInternWatcherStorage(temporaryFolder.resolve("backgroundInternWatcher.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backgroundUserPrefs.json"));
+        StorageManager storage = new StorageManager(internWatcherStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, true);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        logic.setSaveListener(new RecordingSaveListener(events));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GRADE_DESC_AMY + INSTITUTION_DESC_AMY + JOB_DESC_AMY
+                + COURSE_DESC_AMY + GRADUATION_YEARMONTH_DESC_AMY;
+        logic.execute(addCommand);
+        logic.awaitPendingSaves();
+
+        assertEquals(new InternWatcher(model.getInternWatcher()), storage.readInternWatcher().get());
+        assertEquals("started", events.get(0));
+        assertEquals("succeeded", events.get(events.size() - 1));
+    }
+
+    @Test
+    public void execute_savingInBackgroundThrowsIoException_notifiesListener() throws Exception {
+        JsonInternWatcherStorage internWatcherStorage =
+                new JsonInternWatcherIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionInternWatcher.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(internWatcherStorage, userPrefsStorage), true);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        logic.setSaveListener(new RecordingSaveListener(events));
+
+        // the command itself succeeds, as the save is only made afterwards
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GRADE_DESC_AMY + INSTITUTION_DESC_AMY + JOB_DESC_AMY
+                + COURSE_DESC_AMY + GRADUATION_YEARMONTH_DESC_AMY;
+        logic.execute(addCommand);
+        logic.awaitPendingSaves();
+
+        assertEquals(Arrays.asList("started", LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), events);
+        // the changes are saved again by the next save
+        assertTrue(logic.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        Path dataFile = temporaryFolder.resolve("readOnlyInternWatcher.json");
+        StorageManager storage = new StorageManager(new JsonInternWatcherStorage(dataFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("readOnlyUserPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(dataFile));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GRADE_DESC_AMY + INSTITUTION_DESC_AMY + JOB_DESC_AMY
+                + COURSE_DESC_AMY + GRADUATION_YEARMONTH_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(Files.exists(dataFile));
+    }
+
+    @Test
+    public void executeInBackground_resultExecutor_showsListedApplicantsThroughIt() throws Exception {
+        List<Runnable> resultTasks = Collections.synchronizedList(new ArrayList<>());
+        logic = new LogicManager(model, new StorageManager(
+                new JsonInternWatcherStorage(temporaryFolder.resolve("commandThreadInternWatcher.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("commandThreadUserPrefs.json"))), resultTasks::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GRADE_DESC_AMY + INSTITUTION_DESC_AMY + JOB_DESC_AMY
+                + COURSE_DESC_AMY + GRADUATION_YEARMONTH_DESC_AMY;
+        logic.executeInBackground(addCommand).get();
+        assertEquals(Collections.emptyList(), logic.getFilteredApplicantList());
+
+        new ArrayList<>(resultTasks).forEach(Runnable::run);
+        assertEquals(model.getFilteredApplicantList(), logic.getFilteredApplicantList());
+        assertEquals(1, logic.getFilteredApplicantList().size());
+        logic.awaitPendingSaves();
+    }
+
+    @Test
+    public void shutdown_resultExecutor_rejectsLaterCommands() throws Exception {
+        logic = new LogicManager(model, new StorageManager(
+                new JsonInternWatcherStorage(temporaryFolder.resolve("shutdownInternWatcher.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("shutdownUserPrefs.json"))), Runnable::run);
+
+        logic.executeInBackground(ListCommand.COMMAND_WORD).get();
+        logic.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> logic.executeInBackground(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void loadInternWatcher_thenReadOnlyCommand_doesNotSave() throws Exception {
+        Path dataFile = temporaryFolder.resolve("loadedInternWatcher.json");
+        logic = new LogicManager(model, new StorageManager(new JsonInternWatcherStorage(dataFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadedUserPrefs.json"))));
+
+        logic.loadInternWatcher(getTypicalInternWatcher()).get();
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(getTypicalInternWatcher().getApplicantList(), logic.getFilteredApplicantList());
+        assertFalse(Files.exists(dataFile));
+    }
+
+    @Test
+    public void notifyWhenFinished_exportFails_notifiesListener() throws Exception {
+        // the export file cannot be created under a regular file
+        Path exportFile = Files.createFile(temporaryFolder.resolve("notADirectory")).resolve("applicants.csv");
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + exportFile);
+        logic.notifyWhenFinished(result.getBackgroundTask().get(), new RecordingBackgroundTaskListener(events));
+        logic.awaitBackgroundTasks();
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).startsWith(String.format(ExportCommand.MESSAGE_EXPORT_FAILED, exportFile, "")));
+    }
+
+    @Test
+    public void notifyWhenFinished_exportAlreadyFinished_notifiesListener() throws Exception {
+        Path exportFile = temporaryFolder.resolve("finishedExport.csv");
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + exportFile);
+        logic.awaitBackgroundTasks();
+        assertTrue(events.isEmpty());
+
+        // a task that finished before its result was shown is still reported once it is listened to
+        logic.notifyWhenFinished(result.getBackgroundTask().get(), new RecordingBackgroundTaskListener(events));
+        assertEquals(Collections.singletonList(String.format(ExportCommand.MESSAGE_EXPORTED, 0, exportFile)), events);
+    }
+
+    @Test
+    public void execute_autoSaveOff_savesOnlyOnSave() throws Exception {
+        Path dataFile = temporaryFolder.resolve("deferredInternWatcher.json");
+        StorageManager storage = new StorageManager(new JsonInternWatcherStorage(dataFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("deferredUserPrefs.json")));
+        logic = new LogicManager(model, storage);
+        logic.setAutoSave(false);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GRADE_DESC_AMY + INSTITUTION_DESC_AMY + JOB_DESC_AMY
+                + COURSE_DESC_AMY + GRADUATION_YEARMONTH_DESC_AMY;
+        logic.execute(addCommand);
+        assertFalse(Files.exists(dataFile));
+
+        logic.save();
+        assertEquals(new InternWatcher(model.getInternWatcher()), storage.readInternWatcher().get());
+    }
+
     @Test
     public void getFilteredApplicantList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredApplicantList().remove(0));
@@ -151,6 +326,53 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A {@code SaveListener} that records the notifications it receives.
+     */
+    private static class RecordingSaveListener implements SaveListener {
+        private final List<String> events;
+
+        private RecordingSaveListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void saveStarted() {
+            events.add("started");
+        }
+
+        @Override
+        public void saveSucceeded() {
+            events.add("succeeded");
+        }
+
+        @Override
+        public void saveFailed(String errorMessage) {
+            events.add(errorMessage);
+        }
+    }
+
+    /**
+     * A {@code BackgroundTaskListener} that records the messages it receives.
+     */
+    private static class RecordingBackgroundTaskListener implements BackgroundTaskListener {
+        private final List<String> events;
+
+        private RecordingBackgroundTaskListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void taskSucceeded(String message) {
+            events.add(message);
+        }
+
+        @Override
+        public void taskFailed(String errorMessage) {
+            events.add(errorMessage);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -9,6 +9,9 @@ import static seedu.intern.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -16,12 +19,17 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import seedu.intern.commons.core.GuiSettings;
 import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.model.ApplicantChangeStream;
+import seedu.intern.model.ApplicantEditBatch;
+import seedu.intern.model.ApplicantStatistics;
+import seedu.intern.model.ColumnarInternWatcher;
 import seedu.intern.model.InternWatcher;
 import seedu.intern.model.Model;
 import seedu.intern.model.ReadOnlyInternWatcher;
 import seedu.intern.model.ReadOnlyUserPrefs;
 import seedu.intern.model.VersionedInternWatcher;
 import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicantCounters;
 import seedu.intern.testutil.ApplicantBuilder;
 
 public class AddCommandTest {
@@ -115,11 +123,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addApplicants(List<Applicant> applicants) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setInternWatcher(ReadOnlyInternWatcher newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadInternWatcher(ReadOnlyInternWatcher newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyInternWatcher getInternWatcher() {
             throw new AssertionError("This method should not be called.");
@@ -140,11 +158,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteApplicants(Collection<Applicant> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setApplicant(Applicant target, Applicant editedApplicant) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceApplicants(Map<Applicant, Applicant> edits) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ApplicantEditBatch startEditBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitEditBatch(ApplicantEditBatch batch, String commitMessage) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Applicant> getFilteredApplicantList() {
             throw new AssertionError("This method should not be called.");
@@ -194,6 +232,31 @@ public class AddCommandTest {
         public boolean getIsToggle() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void displayApplicantStatistics(ApplicantStatistics statistics) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ApplicantStatistics getApplicantStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ColumnarInternWatcher getColumnarInternWatcher() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ApplicantCounters getApplicantCounters() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ApplicantChangeStream.Subscription subscribeToChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
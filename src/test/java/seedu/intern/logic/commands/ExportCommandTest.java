@@ -0,0 +1,55 @@
+package seedu.intern.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.Model;
+import seedu.intern.model.ModelManager;
+import seedu.intern.model.UserPrefs;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void execute_filteredList_exportsListedApplicants() throws Exception {
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(1).nextApplicants(20));
+        Model model = new ModelManager(internWatcher, new UserPrefs());
+        Applicant listed = model.getFilteredApplicantList().get(3);
+        model.updateFilteredApplicantList(listed::equals);
+        Path file = temporaryFolder.resolve("shortlist.csv");
+
+        ExportCommand exportCommand = new ExportCommand(file);
+        CommandResult result = exportCommand.execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTED, 1, file), exportCommand.getExport().get());
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), result.getFeedbackToUser());
+        assertEquals(exportCommand.getExport(), result.getBackgroundTask().get());
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith(listed.getName().fullName + ","));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Path.of("a.csv"));
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Path.of("a.csv"))));
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("a.jsonl"))));
+        assertFalse(exportCommand.equals(null));
+    }
+}
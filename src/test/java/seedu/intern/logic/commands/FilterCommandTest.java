@@ -3,6 +3,7 @@ package seedu.intern.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.intern.commons.core.Messages.MESSAGE_APPLICANTS_LISTED_OVERVIEW;
 import static seedu.intern.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.intern.testutil.Assert.assertThrows;
 import static seedu.intern.testutil.TypicalApplicants.ALICE;
 import static seedu.intern.testutil.TypicalApplicants.BENSON;
 import static seedu.intern.testutil.TypicalApplicants.DANIEL;
@@ -15,11 +16,15 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.intern.commons.core.Messages;
 import seedu.intern.logic.commands.FilterCommand.FilterApplicantDescriptor;
+import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.model.InternWatcher;
 import seedu.intern.model.Model;
 import seedu.intern.model.ModelManager;
 import seedu.intern.model.UserPrefs;
 import seedu.intern.model.applicant.CombineFiltersPredicate;
+import seedu.intern.model.util.SyntheticDataGenerator;
 import seedu.intern.testutil.FilterApplicantDescriptorBuilder;
 
 
@@ -156,6 +161,24 @@ public class FilterCommandTest {
         assertEquals(Arrays.asList(ELLE), model.getFilteredApplicantList());
     }
 
+    @Test
+    public void execute_cancelled_listUnchanged() {
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(1).nextApplicants(10_000));
+        Model largeModel = new ModelManager(internWatcher, new UserPrefs());
+        FilterCommand command = new FilterCommand(new FilterApplicantDescriptorBuilder().withGrade("4.00").build());
+
+        // commands are cancelled by interrupting the thread executing them
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CommandException.class, Messages.MESSAGE_COMMAND_CANCELLED, () ->
+                    command.execute(largeModel));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(10_000, largeModel.getFilteredApplicantList().size());
+    }
+
     @Test
     public void execute_allFields_noApplicantFound() {
         String expectedMessage = String.format(MESSAGE_APPLICANTS_LISTED_OVERVIEW, 0);
@@ -0,0 +1,169 @@
+package seedu.intern.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.commons.core.Messages;
+import seedu.intern.logic.commands.exceptions.CommandException;
+import seedu.intern.logic.parser.CsvApplicantParser;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.Model;
+import seedu.intern.model.ModelManager;
+import seedu.intern.model.UserPrefs;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.Phone;
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = String.join(",", CsvApplicantParser.COLUMNS);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private Applicant existingApplicant;
+
+    @BeforeEach
+    public void setUp() {
+        existingApplicant = new SyntheticDataGenerator(1).nextApplicant();
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.addApplicant(existingApplicant);
+        model = new ModelManager(internWatcher, new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validAndInvalidRows_importsValidRowsAndReportsOthers() throws Exception {
+        Path file = write("applicants.csv", HEADER,
+                "Amy Bee,11111111,amy@example.com,4.50,NUS,Computer Science,05/2024,Intern,APPLIED,Java",
+                "",
+                "Bob Choo,phone,bob@example.com,4.00,NTU,Computer Science,05/2024,Intern,,",
+                "Amy Bee,22222222,amy2@example.com,4.00,NTU,Computer Science,05/2024,Intern,,",
+                existingApplicant.getName() + ",33333333,x@example.com,4.00,NTU,Physics,05/2024,Intern,,",
+                "Cara Dee,44444444,cara@example.com,3.00,SMU,Economics,12/2025,Analyst,,");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, file)
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 3)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, Phone.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5, ImportCommand.MESSAGE_DUPLICATE_ROW)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 6, ImportCommand.MESSAGE_DUPLICATE_ROW),
+                result.getFeedbackToUser());
+        List<Applicant> applicants = model.getInternWatcher().getApplicantList();
+        assertEquals(3, applicants.size());
+        assertEquals("Amy Bee", applicants.get(1).getName().fullName);
+        assertEquals("Cara Dee", applicants.get(2).getName().fullName);
+
+        // the whole import is undone as one change
+        model.undoInternWatcher();
+        assertEquals(1, model.getInternWatcher().getApplicantList().size());
+    }
+
+    @Test
+    public void execute_manyRows_importsAcrossChunks() throws Exception {
+        int count = ImportCommand.CHUNK_SIZE * 2 + 5;
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < count; i++) {
+            lines.add("Applicant " + i + "," + (80000000 + i) + ",a" + i + "@example.com,4.00,NUS,Physics,"
+                    + "05/2024,Intern,,");
+        }
+        lines.add("Applicant 0,80000000,a0@example.com,4.00,NUS,Physics,05/2024,Intern,,");
+        Path file = temporaryFolder.resolve("many.csv");
+        Files.write(file, lines);
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, count + 2, ImportCommand.MESSAGE_DUPLICATE_ROW)));
+        List<Applicant> applicants = model.getInternWatcher().getApplicantList();
+        assertEquals(count + 1, applicants.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("Applicant " + i, applicants.get(i + 1).getName().fullName);
+        }
+    }
+
+    @Test
+    public void execute_noValidRows_modelUnchanged() throws Exception {
+        Path file = write("invalid.csv", HEADER, "Amy Bee,phone,amy@example.com,4.50,NUS,Physics,05/2024,Intern,,");
+
+        new ImportCommand(file).execute(model);
+
+        assertEquals(1, model.getInternWatcher().getApplicantList().size());
+        assertFalse(model.isUndoAvailable());
+    }
+
+    @Test
+    public void execute_cancelled_modelUnchanged() throws Exception {
+        Path file = write("applicants.csv", HEADER,
+                "Amy Bee,11111111,amy@example.com,4.50,NUS,Computer Science,05/2024,Intern,APPLIED,Java");
+
+        // commands are cancelled by interrupting the thread executing them
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CommandException.class, Messages.MESSAGE_COMMAND_CANCELLED, ()
+                -> new ImportCommand(file).execute(model));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(1, model.getInternWatcher().getApplicantList().size());
+        assertFalse(model.isUndoAvailable());
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path file = write("columns.csv", "name,phone", "Amy Bee,11111111");
+        assertThrows(CommandException.class, String.format(CsvApplicantParser.MESSAGE_MISSING_COLUMNS,
+                "email, grade, institution, course, graduationYearMonth, job"), () -> new ImportCommand(file)
+                .execute(model));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path file = write("empty.csv");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_EMPTY_FILE, file), ()
+            -> new ImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file), ()
+            -> new ImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("b.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(1));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = temporaryFolder.resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
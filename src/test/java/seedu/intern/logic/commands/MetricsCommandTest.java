@@ -0,0 +1,28 @@
+package seedu.intern.logic.commands;
+
+import static seedu.intern.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.commons.core.MetricsCenter;
+import seedu.intern.model.Model;
+import seedu.intern.model.ModelManager;
+
+public class MetricsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @AfterEach
+    public void resetMetrics() {
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void execute_showsReport() {
+        MetricsCenter.reset();
+        MetricsCenter.increment("commands");
+        String expectedMessage = String.format(MetricsCommand.MESSAGE_SUCCESS, "commands: 1");
+        assertCommandSuccess(new MetricsCommand(), model, expectedMessage, expectedModel);
+    }
+}
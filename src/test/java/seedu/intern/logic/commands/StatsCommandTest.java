@@ -0,0 +1,49 @@
+package seedu.intern.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.intern.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.intern.logic.commands.CommandTestUtil.showApplicantAtIndex;
+import static seedu.intern.testutil.TypicalApplicants.getTypicalInternWatcher;
+import static seedu.intern.testutil.TypicalIndexes.INDEX_FIRST_APPLICANT;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.model.ApplicantStatistics;
+import seedu.intern.model.Model;
+import seedu.intern.model.ModelManager;
+import seedu.intern.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalInternWatcher(), new UserPrefs());
+        expectedModel = new ModelManager(model.getInternWatcher(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_listIsNotFiltered_showsStatisticsOfEveryone() {
+        int total = model.getFilteredApplicantList().size();
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(StatsCommand.MESSAGE_SUCCESS, total), false, false, false, true);
+        assertCommandSuccess(new StatsCommand(), model, expectedCommandResult, expectedModel);
+        assertEquals(ApplicantStatistics.of(model.getFilteredApplicantList()), model.getApplicantStatistics());
+    }
+
+    @Test
+    public void execute_listIsFiltered_showsStatisticsOfListed() {
+        showApplicantAtIndex(model, INDEX_FIRST_APPLICANT);
+        showApplicantAtIndex(expectedModel, INDEX_FIRST_APPLICANT);
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(StatsCommand.MESSAGE_SUCCESS, 1), false, false, false, true);
+        assertCommandSuccess(new StatsCommand(), model, expectedCommandResult, expectedModel);
+        assertEquals(1, model.getApplicantStatistics().getTotal());
+    }
+}
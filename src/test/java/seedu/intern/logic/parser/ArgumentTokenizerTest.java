@@ -136,6 +136,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixMatched() {
+        Prefix pSlashSlash = new Prefix("p//");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble p// double p/ single", pSlash,
+                pSlashSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlashSlash, "double");
+        assertArgumentPresent(argMultimap, pSlash, "single");
+    }
+
+    @Test
+    public void tokenize_manyArguments_allExtracted() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[100];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(" p/").append(expectedValues[i]);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+
+        // the buffer grown for the arguments above is reused
+        assertArgumentPresent(ArgumentTokenizer.tokenize(" p/one", pSlash), pSlash, "one");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,80 @@
+package seedu.intern.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.logic.parser.exceptions.ParseException;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus;
+import seedu.intern.model.applicant.Course;
+import seedu.intern.model.applicant.Email;
+import seedu.intern.model.applicant.Grade;
+import seedu.intern.model.applicant.GraduationYearMonth;
+import seedu.intern.model.applicant.Institution;
+import seedu.intern.model.applicant.Job;
+import seedu.intern.model.applicant.Name;
+import seedu.intern.model.applicant.Phone;
+import seedu.intern.model.skills.Skill;
+
+public class CsvApplicantParserTest {
+
+    private static final String HEADER = String.join(",", CsvApplicantParser.COLUMNS);
+
+    private static final Applicant AMY = new Applicant(new Name("Amy Bee"), new Phone("11111111"),
+            new Email("amy@example.com"), new Grade("4.50"), new Institution("NUS"), new Course("Computer Science"),
+            new GraduationYearMonth("05/2024"), new Job("Software Engineer"),
+            new ApplicationStatus("INTERVIEWED"), Set.of(new Skill("Java"), new Skill("C++")));
+
+    @Test
+    public void constructor_missingColumns_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CsvApplicantParser.MESSAGE_MISSING_COLUMNS, "email, job"), ()
+            -> new CsvApplicantParser("name,phone,grade,institution,course,graduationYearMonth"));
+    }
+
+    @Test
+    public void parse_validRow_returnsApplicant() throws Exception {
+        CsvApplicantParser parser = new CsvApplicantParser(HEADER);
+        assertEquals(AMY, parser.parse("Amy Bee,11111111,amy@example.com,4.50,NUS,Computer Science,05/2024,"
+                + "\"Software Engineer\",INTERVIEWED,Java;C++"));
+    }
+
+    @Test
+    public void parse_columnsInAnyOrderWithTabs_returnsApplicant() throws Exception {
+        CsvApplicantParser parser = new CsvApplicantParser(
+                "Skills\tJob\tGraduation Year Month\tCourse\tInstitution\tGrade\tEmail\tPhone\tName\tStatus\tNotes");
+        assertEquals('\t', parser.getSeparator());
+        assertEquals(AMY, parser.parse("Java;C++\tSoftware Engineer\t05/2024\tComputer Science\tNUS\t4.50"
+                + "\tamy@example.com\t11111111\tAmy Bee\tINTERVIEWED\tgood"));
+    }
+
+    @Test
+    public void parse_optionalColumnsMissing_returnsApplicantWithDefaults() throws Exception {
+        CsvApplicantParser parser = new CsvApplicantParser(
+                "name,phone,email,grade,institution,course,graduationYearMonth,job");
+        Applicant applicant = parser.parse("Amy Bee,11111111,amy@example.com,4.50,NUS,Computer Science,05/2024,Intern");
+        assertEquals(new ApplicationStatus(), applicant.getApplicationStatus());
+        assertEquals(0, applicant.getSkills().size());
+    }
+
+    @Test
+    public void parse_invalidRow_throwsParseException() throws Exception {
+        CsvApplicantParser parser = new CsvApplicantParser(HEADER);
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS, () -> parser.parse(
+                "Amy Bee,phone,amy@example.com,4.50,NUS,Computer Science,05/2024,Intern,,"));
+        assertThrows(ParseException.class, String.format(CsvApplicantParser.MESSAGE_WRONG_FIELD_COUNT, 8, 3), ()
+            -> parser.parse("Amy Bee,11111111,amy@example.com"));
+    }
+
+    @Test
+    public void split_quotedFields_unquotesFields() throws Exception {
+        assertEquals(Arrays.asList("a", "b,c", "say \"hi\"", ""),
+                CsvApplicantParser.split("a,\"b,c\",\"say \"\"hi\"\"\",", ','));
+        assertThrows(ParseException.class, CsvApplicantParser.MESSAGE_UNCLOSED_QUOTE, ()
+            -> CsvApplicantParser.split("a,\"b", ','));
+    }
+}
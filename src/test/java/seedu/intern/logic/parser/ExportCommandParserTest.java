@@ -0,0 +1,32 @@
+package seedu.intern.logic.parser;
+
+import static seedu.intern.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.intern.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.intern.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " shortlist.csv ", new ExportCommand(Paths.get("shortlist.csv")));
+        assertParseSuccess(parser, "exports/shortlist.jsonl.gz",
+                new ExportCommand(Paths.get("exports/shortlist.jsonl.gz")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() {
+        assertParseFailure(parser, "shortlist.xlsx", ExportCommandParser.MESSAGE_UNSUPPORTED_FILE);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.intern.logic.parser;
+
+import static seedu.intern.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.intern.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.intern.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, "  data/applicants.csv ", new ImportCommand(Paths.get("data/applicants.csv")));
+        assertParseSuccess(parser, "my applicants.tsv", new ImportCommand(Paths.get("my applicants.tsv")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "bad\0path", String.format(ImportCommandParser.MESSAGE_INVALID_PATH, "bad\0path"));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.intern.testutil.Assert.assertThrows;
 import static seedu.intern.testutil.TypicalIndexes.INDEX_FIRST_APPLICANT;
 import static seedu.intern.testutil.TypicalSelections.SELECTION_FIRST_APPLICANT;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,9 +22,13 @@ import seedu.intern.logic.commands.DeleteCommand;
 import seedu.intern.logic.commands.EditCommand;
 import seedu.intern.logic.commands.EditCommand.EditApplicantDescriptor;
 import seedu.intern.logic.commands.ExitCommand;
+import seedu.intern.logic.commands.ExportCommand;
 import seedu.intern.logic.commands.FindCommand;
 import seedu.intern.logic.commands.HelpCommand;
+import seedu.intern.logic.commands.ImportCommand;
 import seedu.intern.logic.commands.ListCommand;
+import seedu.intern.logic.commands.MetricsCommand;
+import seedu.intern.logic.commands.StatsCommand;
 import seedu.intern.logic.parser.exceptions.ParseException;
 import seedu.intern.model.applicant.Applicant;
 import seedu.intern.model.applicant.NameContainsKeywordsPredicate;
@@ -91,6 +96,29 @@ public class InternWatcherParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " applicants.csv");
+        assertEquals(new ImportCommand(Paths.get("applicants.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " shortlist.csv");
+        assertEquals(new ExportCommand(Paths.get("shortlist.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,103 @@
+package seedu.intern.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.testutil.Assert.assertThrows;
+import static seedu.intern.testutil.TypicalApplicants.ALICE;
+import static seedu.intern.testutil.TypicalApplicants.BENSON;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.model.ApplicantChangeEvent.Type;
+import seedu.intern.model.applicant.exceptions.MissedChangesException;
+
+public class ApplicantChangeStreamTest {
+
+    private final ApplicantChangeStream stream = new ApplicantChangeStream(4);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ApplicantChangeStream(0));
+    }
+
+    @Test
+    public void subscribe_onlyLaterChanges() throws Exception {
+        stream.publish(Type.ADDED, null, ALICE);
+        ApplicantChangeStream.Subscription subscription = stream.subscribe();
+        stream.publish(Type.UPDATED, ALICE, BENSON);
+
+        assertEquals(List.of(new ApplicantChangeEvent(2, Type.UPDATED, ALICE, BENSON)), subscription.poll(10));
+        assertEquals(2, stream.getLatestSequence());
+    }
+
+    @Test
+    public void poll_maxEvents_resumesWhereLeft() throws Exception {
+        ApplicantChangeStream.Subscription subscription = stream.subscribe();
+        for (int i = 0; i < 3; i++) {
+            stream.publish(Type.ADDED, null, ALICE);
+        }
+
+        assertEquals(2, subscription.poll(2).size());
+        assertEquals(1, subscription.getLag());
+        assertEquals(3, subscription.poll(2).get(0).getSequence());
+        assertTrue(subscription.poll(2).isEmpty());
+    }
+
+    @Test
+    public void poll_subscribersReadIndependently() throws Exception {
+        ApplicantChangeStream.Subscription fast = stream.subscribe();
+        ApplicantChangeStream.Subscription slow = stream.subscribe();
+        stream.publish(Type.ADDED, null, ALICE);
+
+        assertEquals(1, fast.poll(10).size());
+        assertEquals(0, fast.getLag());
+        assertEquals(1, slow.getLag());
+        assertEquals(1, slow.poll(10).size());
+    }
+
+    @Test
+    public void poll_fellBehindCapacity_throwsMissedChangesException() throws Exception {
+        ApplicantChangeStream.Subscription subscription = stream.subscribe();
+        for (int i = 0; i < 6; i++) {
+            stream.publish(Type.ADDED, null, ALICE);
+        }
+        assertTrue(subscription.hasMissedChanges());
+
+        MissedChangesException e = null;
+        try {
+            subscription.poll(10);
+        } catch (MissedChangesException thrown) {
+            e = thrown;
+        }
+        assertEquals(2, e.getMissedChanges());
+
+        // continues from the changes published after the missed changes were reported
+        assertFalse(subscription.hasMissedChanges());
+        assertTrue(subscription.poll(10).isEmpty());
+        stream.publish(Type.REMOVED, ALICE, null);
+        assertEquals(7, subscription.poll(10).get(0).getSequence());
+    }
+
+    @Test
+    public void poll_timeout_waitsForChange() throws Exception {
+        ApplicantChangeStream.Subscription subscription = stream.subscribe();
+        assertTrue(subscription.poll(10, 10, TimeUnit.MILLISECONDS).isEmpty());
+
+        Thread publisher = new Thread(() -> stream.publish(Type.ADDED, null, ALICE));
+        publisher.start();
+        assertEquals(1, subscription.poll(10, 10, TimeUnit.SECONDS).size());
+        publisher.join();
+    }
+
+    @Test
+    public void close_removesSubscriber() {
+        ApplicantChangeStream.Subscription subscription = stream.subscribe();
+        assertTrue(stream.hasSubscribers());
+        subscription.close();
+        assertFalse(stream.hasSubscribers());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.intern.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.logic.commands.CommandTestUtil.VALID_SKILL_JAVA;
+import static seedu.intern.testutil.Assert.assertThrows;
+import static seedu.intern.testutil.TypicalApplicants.ALICE;
+import static seedu.intern.testutil.TypicalApplicants.BENSON;
+import static seedu.intern.testutil.TypicalApplicants.CARL;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.testutil.ApplicantBuilder;
+
+public class ApplicantEditBatchTest {
+
+    private final ApplicantEditBatch batch = new ApplicantEditBatch(Arrays.asList(ALICE, BENSON));
+
+    @Test
+    public void stage_nullApplicant_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> batch.stage(null, ALICE));
+        assertThrows(NullPointerException.class, () -> batch.stage(ALICE, null));
+    }
+
+    @Test
+    public void stage_sameIdentity_staged() {
+        Applicant editedAlice = new ApplicantBuilder(ALICE).withSkills(VALID_SKILL_JAVA).build();
+        assertTrue(batch.stage(ALICE, editedAlice));
+        assertEquals(1, batch.size());
+        assertEquals(editedAlice, batch.getEdits().get(ALICE));
+    }
+
+    @Test
+    public void stage_existingIdentity_notStaged() {
+        Applicant aliceAsBenson = new ApplicantBuilder(ALICE).withName(BENSON.getName().fullName).build();
+        assertFalse(batch.stage(ALICE, aliceAsBenson));
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    public void stage_identityFreedByEarlierEdit_staged() {
+        Applicant bensonAsCarl = new ApplicantBuilder(BENSON).withName(CARL.getName().fullName).build();
+        Applicant aliceAsBenson = new ApplicantBuilder(ALICE).withName(BENSON.getName().fullName).build();
+        assertTrue(batch.stage(BENSON, bensonAsCarl));
+        assertTrue(batch.stage(ALICE, aliceAsBenson));
+        assertEquals(2, batch.size());
+    }
+
+    @Test
+    public void stage_identityTakenByEarlierEdit_notStaged() {
+        Applicant aliceAsCarl = new ApplicantBuilder(ALICE).withName(CARL.getName().fullName).build();
+        Applicant bensonAsCarl = new ApplicantBuilder(BENSON).withName(CARL.getName().fullName).build();
+        assertTrue(batch.stage(ALICE, aliceAsCarl));
+        assertFalse(batch.stage(BENSON, bensonAsCarl));
+        assertEquals(1, batch.size());
+    }
+}
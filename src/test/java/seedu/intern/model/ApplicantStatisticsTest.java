@@ -0,0 +1,77 @@
+package seedu.intern.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.intern.testutil.Assert.assertThrows;
+import static seedu.intern.testutil.TypicalApplicants.getTypicalApplicants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+import seedu.intern.model.applicant.Institution;
+import seedu.intern.model.skills.Skill;
+import seedu.intern.testutil.ApplicantBuilder;
+
+public class ApplicantStatisticsTest {
+
+    private final ApplicantStatistics statistics = ApplicantStatistics.of(getTypicalApplicants());
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ApplicantStatistics.of(null));
+    }
+
+    @Test
+    public void of_typicalApplicants_countsFunnel() {
+        assertEquals(7, statistics.getTotal());
+        assertEquals(2, statistics.getStatusCount(Status.REJECTED));
+        assertEquals(3, statistics.getStatusCount(Status.INTERVIEWED));
+        assertEquals(2, statistics.getStatusCount(Status.ACCEPTED));
+        assertEquals(0, statistics.getStatusCount(Status.APPLIED));
+    }
+
+    @Test
+    public void of_typicalApplicants_countsGradesAndCohorts() {
+        // only one grade, 4.40, is below 4.50
+        assertArrayEquals(new int[] {0, 0, 0, 0, 0, 0, 0, 0, 1, 6}, statistics.getGradeCounts());
+        assertEquals(Integer.valueOf(1), statistics.getCohortCounts().get(2020));
+        assertEquals(Integer.valueOf(2), statistics.getCohortCounts().get(2023));
+        assertEquals(Integer.valueOf(2020), statistics.getCohortCounts().keySet().iterator().next());
+    }
+
+    @Test
+    public void of_typicalApplicants_ranksInstitutionsAndSkills() {
+        List<Map.Entry<Institution, Integer>> topInstitutions = statistics.getTopInstitutions();
+        assertEquals(ApplicantStatistics.TOP_COUNT, topInstitutions.size());
+        assertEquals(new Institution("NTU"), topInstitutions.get(0).getKey());
+        assertEquals(Integer.valueOf(2), topInstitutions.get(0).getValue());
+
+        List<Map.Entry<Skill, Integer>> topSkills = statistics.getTopSkills();
+        assertEquals(new Skill("C"), topSkills.get(0).getKey());
+        assertEquals(Integer.valueOf(3), topSkills.get(0).getValue());
+    }
+
+    @Test
+    public void of_largeList_sameAsSequential() {
+        List<Applicant> applicants = new ArrayList<>();
+        ApplicantStatistics expected = new ApplicantStatistics();
+        for (int i = 0; i < ApplicantStatistics.PARALLEL_THRESHOLD; i++) {
+            Applicant applicant = new ApplicantBuilder().withName("Applicant " + i)
+                    .withGrade(String.format("%d.%02d", i % 5, i % 100)).build();
+            applicants.add(applicant);
+            expected.accept(applicant);
+        }
+        assertEquals(expected, ApplicantStatistics.of(applicants));
+    }
+
+    @Test
+    public void getGradeBucketLabel() {
+        assertEquals("0.00-0.49", ApplicantStatistics.getGradeBucketLabel(0));
+        assertEquals("4.50-5.00", ApplicantStatistics.getGradeBucketLabel(9));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.intern.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.intern.testutil.Assert.assertThrows;
+import static seedu.intern.testutil.TypicalApplicants.ALICE;
+import static seedu.intern.testutil.TypicalApplicants.getTypicalInternWatcher;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+import seedu.intern.model.applicant.Grade;
+import seedu.intern.model.applicant.GraduationYearMonth;
+import seedu.intern.model.applicant.Institution;
+import seedu.intern.model.applicant.Job;
+
+public class ColumnarInternWatcherTest {
+
+    private final InternWatcher internWatcher = getTypicalInternWatcher();
+    private final ColumnarInternWatcher columnarInternWatcher = new ColumnarInternWatcher(internWatcher);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ColumnarInternWatcher(null));
+    }
+
+    @Test
+    public void getApplicantList_sameApplicantsAsSource() {
+        assertEquals(internWatcher.getApplicantList().size(), columnarInternWatcher.size());
+        assertEquals(internWatcher.getApplicantList(), columnarInternWatcher.getApplicantList());
+        assertEquals(internWatcher, new InternWatcher(columnarInternWatcher));
+    }
+
+    @Test
+    public void getApplicant_keepsId() {
+        assertEquals(internWatcher.getApplicantList().get(0).getId(), columnarInternWatcher.getApplicant(0).getId());
+    }
+
+    @Test
+    public void getApplicantList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> columnarInternWatcher.getApplicantList().add(ALICE));
+    }
+
+    @Test
+    public void countByStatus() {
+        int[] counts = columnarInternWatcher.countByStatus();
+        assertEquals(2, counts[Status.REJECTED.ordinal()]);
+        assertEquals(3, counts[Status.INTERVIEWED.ordinal()]);
+        assertEquals(2, counts[Status.ACCEPTED.ordinal()]);
+        assertEquals(0, counts[Status.APPLIED.ordinal()]);
+    }
+
+    @Test
+    public void countWithGradeAtLeast() {
+        assertEquals(4, columnarInternWatcher.countWithGradeAtLeast(new Grade("4.70")));
+        assertEquals(7, columnarInternWatcher.countWithGradeAtLeast(new Grade("0.00")));
+    }
+
+    @Test
+    public void countGraduatingBefore() {
+        assertEquals(4, columnarInternWatcher.countGraduatingBefore(new GraduationYearMonth("01/2024")));
+        assertEquals(0, columnarInternWatcher.countGraduatingBefore(new GraduationYearMonth("12/2020")));
+    }
+
+    @Test
+    public void countByDictionaryColumns() {
+        assertEquals(Integer.valueOf(2), columnarInternWatcher.countByJob().get(new Job("Software Engineer")));
+        assertEquals(Integer.valueOf(2), columnarInternWatcher.countByInstitution().get(new Institution("NTU")));
+        assertEquals(7, columnarInternWatcher.countByCourse().size());
+    }
+
+    @Test
+    public void countByGradeBucketAndGraduationYearAndSkill_sameStatisticsAsApplicantList() {
+        assertEquals(ApplicantStatistics.of(internWatcher.getApplicantList()),
+                ApplicantStatistics.ofColumns(columnarInternWatcher));
+    }
+}
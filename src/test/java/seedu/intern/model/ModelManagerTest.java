@@ -7,15 +7,21 @@ import static seedu.intern.model.Model.PREDICATE_SHOW_ALL_APPLICANTS;
 import static seedu.intern.testutil.Assert.assertThrows;
 import static seedu.intern.testutil.TypicalApplicants.ALICE;
 import static seedu.intern.testutil.TypicalApplicants.BENSON;
+import static seedu.intern.testutil.TypicalApplicants.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.intern.commons.core.GuiSettings;
+import seedu.intern.model.ApplicantChangeEvent.Type;
+import seedu.intern.model.applicant.Applicant;
 import seedu.intern.model.applicant.NameContainsKeywordsPredicate;
+import seedu.intern.testutil.ApplicantBuilder;
 import seedu.intern.testutil.InternWatcherBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +99,40 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredApplicantList().remove(0));
     }
 
+    @Test
+    public void updateFilteredApplicantList_predicateThrows_listUnchanged() {
+        modelManager = new ModelManager(new InternWatcherBuilder().withApplicant(ALICE).withApplicant(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredApplicantList(ALICE::equals);
+
+        assertThrows(IllegalStateException.class, () -> modelManager.updateFilteredApplicantList(applicant -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredApplicantList());
+    }
+
+    @Test
+    public void getColumnarInternWatcher_reusedUntilApplicantsChange() {
+        modelManager.addApplicant(ALICE);
+        ColumnarInternWatcher columnarInternWatcher = modelManager.getColumnarInternWatcher();
+        assertTrue(columnarInternWatcher == modelManager.getColumnarInternWatcher());
+
+        modelManager.addApplicant(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getColumnarInternWatcher().getApplicantList());
+    }
+
+    @Test
+    public void loadInternWatcher_discardsHistory() throws Exception {
+        modelManager.addApplicant(ALICE);
+        modelManager.commitInternWatcher("add");
+        InternWatcher internWatcher = new InternWatcherBuilder().withApplicant(BENSON).build();
+
+        modelManager.loadInternWatcher(internWatcher);
+        assertEquals(internWatcher, modelManager.getInternWatcher());
+        assertFalse(modelManager.isUndoAvailable());
+        assertFalse(modelManager.isRedoAvailable());
+    }
+
     @Test
     public void equals() {
         InternWatcher internWatcher = new InternWatcherBuilder().withApplicant(ALICE).withApplicant(BENSON).build();
@@ -129,4 +169,66 @@ public class ModelManagerTest {
         differentUserPrefs.setInternWatcherFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(internWatcher, differentUserPrefs)));
     }
+
+    @Test
+    public void subscribeToChanges_commands_publishesChanges() throws Exception {
+        ApplicantChangeStream.Subscription subscription = modelManager.subscribeToChanges();
+
+        modelManager.addApplicant(ALICE);
+        Applicant added = modelManager.getInternWatcher().getApplicantList().get(0);
+        Applicant edited = new ApplicantBuilder(ALICE).withPhone("91234567").build();
+        modelManager.setApplicant(added, edited);
+        Applicant stored = modelManager.getInternWatcher().getApplicantList().get(0);
+        modelManager.deleteApplicant(stored);
+
+        List<ApplicantChangeEvent> events = subscription.poll(10);
+        assertEquals(Arrays.asList(Type.ADDED, Type.UPDATED, Type.REMOVED), types(events));
+        assertEquals(Arrays.asList(1L, 2L, 3L),
+                events.stream().map(ApplicantChangeEvent::getSequence).collect(Collectors.toList()));
+        assertEquals(added, events.get(1).getBefore().get());
+        assertEquals(edited, events.get(1).getAfter().get());
+        assertEquals(added.getId(), events.get(2).getBefore().get().getId());
+        assertTrue(subscription.poll(10).isEmpty());
+    }
+
+    @Test
+    public void subscribeToChanges_undoRedo_publishesDifferences() throws Exception {
+        modelManager.addApplicants(Arrays.asList(ALICE, BENSON));
+        modelManager.commitInternWatcher("add");
+        modelManager.addApplicant(CARL);
+        modelManager.commitInternWatcher("add");
+        ApplicantChangeStream.Subscription subscription = modelManager.subscribeToChanges();
+
+        modelManager.undoInternWatcher();
+        modelManager.redoInternWatcher();
+
+        List<ApplicantChangeEvent> events = subscription.poll(10);
+        assertEquals(Arrays.asList(Type.UNDONE, Type.REMOVED, Type.REDONE, Type.ADDED), types(events));
+        assertEquals(CARL, events.get(1).getBefore().get());
+        assertEquals(CARL, events.get(3).getAfter().get());
+    }
+
+    @Test
+    public void subscribeToChanges_replaced_publishesSingleReset() throws Exception {
+        modelManager.addApplicant(ALICE);
+        ApplicantChangeStream.Subscription subscription = modelManager.subscribeToChanges();
+
+        modelManager.setInternWatcher(new InternWatcherBuilder().withApplicant(BENSON).withApplicant(CARL).build());
+        assertEquals(Arrays.asList(Type.RESET), types(subscription.poll(10)));
+
+        modelManager.loadInternWatcher(new InternWatcherBuilder().withApplicant(ALICE).build());
+        assertEquals(Arrays.asList(Type.RESET), types(subscription.poll(10)));
+    }
+
+    @Test
+    public void subscribeToChanges_closed_noLongerSubscribed() {
+        ApplicantChangeStream.Subscription subscription = modelManager.subscribeToChanges();
+        subscription.close();
+        modelManager.addApplicant(ALICE);
+        assertEquals(0, subscription.getLag());
+    }
+
+    private static List<Type> types(List<ApplicantChangeEvent> events) {
+        return events.stream().map(ApplicantChangeEvent::getType).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,34 @@
+package seedu.intern.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+public class VersionedInternWatcherTest {
+
+    @Test
+    public void commitState_beyondMaxStates_discardsOldestStates() throws Exception {
+        int maxStates = 20;
+        VersionedInternWatcher internWatcher = new VersionedInternWatcher(new InternWatcher(), maxStates);
+        int commits = maxStates + 10;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        for (int i = 0; i < commits; i++) {
+            internWatcher.addApplicant(generator.nextApplicant());
+            internWatcher.commitState("add " + i);
+        }
+
+        int undos = 0;
+        while (internWatcher.canUndo()) {
+            internWatcher.undo();
+            undos++;
+        }
+        assertEquals(maxStates - 1, undos);
+        assertEquals(commits - undos, internWatcher.getApplicantList().size());
+        assertFalse(internWatcher.canUndo());
+        assertTrue(internWatcher.canRedo());
+    }
+}
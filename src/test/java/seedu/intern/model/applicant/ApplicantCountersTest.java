@@ -0,0 +1,57 @@
+package seedu.intern.model.applicant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.testutil.TypicalApplicants.ALICE;
+import static seedu.intern.testutil.TypicalApplicants.GEORGE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+
+public class ApplicantCountersTest {
+
+    private final ApplicantCounters counters = new ApplicantCounters();
+
+    @Test
+    public void add_countsStatusJobAndInstitution() {
+        counters.add(ALICE);
+        counters.add(GEORGE);
+        assertEquals(2, counters.getTotal());
+        assertEquals(2, counters.getStatusCount(Status.REJECTED));
+        assertEquals(0, counters.getStatusCount(Status.APPLIED));
+        assertEquals(2, counters.getJobCount(new Job("Software Engineer")));
+        assertEquals(1, counters.getInstitutionCount(new Institution("NUS")));
+    }
+
+    @Test
+    public void remove_lastApplicant_dropsEmptyCounts() {
+        counters.add(ALICE);
+        counters.add(GEORGE);
+        counters.remove(ALICE);
+        assertEquals(1, counters.getTotal());
+        assertEquals(1, counters.getJobCount(new Job("Software Engineer")));
+        assertFalse(counters.getInstitutionCounts().containsKey(new Institution("NUS")));
+    }
+
+    @Test
+    public void setTo_copiesCounts() {
+        counters.add(ALICE);
+        ApplicantCounters copy = new ApplicantCounters();
+        copy.add(GEORGE);
+        copy.setTo(counters);
+        assertEquals(counters, copy);
+
+        copy.clear();
+        assertEquals(new ApplicantCounters(), copy);
+        assertEquals(1, counters.getTotal());
+    }
+
+    @Test
+    public void toString_listsEveryStatus() {
+        counters.add(ALICE);
+        assertTrue(counters.toString().startsWith("APPLIED: 0 | "));
+        assertTrue(counters.toString().contains("REJECTED: 1"));
+    }
+}
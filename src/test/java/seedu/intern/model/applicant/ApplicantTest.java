@@ -1,6 +1,8 @@
 package seedu.intern.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.intern.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.intern.logic.commands.CommandTestUtil.VALID_GRADE_BOB;
@@ -13,8 +15,12 @@ import static seedu.intern.testutil.Assert.assertThrows;
 import static seedu.intern.testutil.TypicalApplicants.ALICE;
 import static seedu.intern.testutil.TypicalApplicants.BOB;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.intern.model.skills.Skill;
 import seedu.intern.testutil.ApplicantBuilder;
 
 public class ApplicantTest {
@@ -97,5 +103,51 @@ public class ApplicantTest {
         // different skills -> returns false
         editedAlice = new ApplicantBuilder(ALICE).withSkills(VALID_SKILL_JAVA).build();
         assertFalse(ALICE.equals(editedAlice));
+
+        // different id -> returns true
+        assertTrue(ALICE.equals(ALICE.withId(1)));
+    }
+
+    @Test
+    public void hashCode_sameValues_returnsSameHashCode() {
+        // same values -> returns same hash code
+        assertEquals(ALICE.hashCode(), new ApplicantBuilder(ALICE).build().hashCode());
+
+        // different id -> returns same hash code
+        assertEquals(ALICE.hashCode(), ALICE.withId(1).hashCode());
+    }
+
+    @Test
+    public void constructor_equalFields_sharesInstances() {
+        Applicant first = new ApplicantBuilder(ALICE).withName("First Copy").build();
+        Applicant second = new ApplicantBuilder(ALICE).withName("Second Copy").build();
+
+        assertSame(first.getInstitution(), second.getInstitution());
+        assertSame(first.getCourse(), second.getCourse());
+        assertSame(first.getGrade(), second.getGrade());
+        assertSame(first.getGraduationYearMonth(), second.getGraduationYearMonth());
+        assertSame(first.getJob(), second.getJob());
+        assertSame(first.getApplicationStatus(), second.getApplicationStatus());
+        assertSame(first.getSkills(), second.getSkills());
+    }
+
+    @Test
+    public void getPhone_packedPhone_sameDigits() {
+        assertEquals(new Phone("0012345"), new ApplicantBuilder().withPhone("0012345").build().getPhone());
+
+        String longPhone = "1234567890123456789012";
+        Applicant applicant = new ApplicantBuilder().withPhone(longPhone).build();
+        assertEquals(new Phone(longPhone), applicant.getPhone());
+        assertFalse(applicant.equals(new ApplicantBuilder().withPhone("1234567890").build()));
+        assertTrue(applicant.equals(new ApplicantBuilder().withPhone(longPhone).build()));
+    }
+
+    @Test
+    public void getSkills_orderedByName() {
+        Applicant applicant = new ApplicantBuilder().withSkills("Python", "C++", "Java", "Python").build();
+        assertEquals(List.of("C++", "Java", "Python"),
+                applicant.getSkills().stream().map(skill -> skill.skillName).collect(Collectors.toList()));
+        assertTrue(applicant.getSkills().contains(new Skill("Java")));
+        assertFalse(applicant.getSkills().contains(new Skill("Rust")));
     }
 }
@@ -1,5 +1,6 @@
 package seedu.intern.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.intern.testutil.Assert.assertThrows;
@@ -45,4 +46,36 @@ public class GradeTest {
         assertTrue(Grade.isValidGrade("3.00")); //Decimal number within 0.00 - 5.00
         assertTrue(Grade.isValidGrade("4.27")); // period in local part
     }
+
+    @Test
+    public void constructor_validGrade_parsesHundredths() {
+        assertEquals(0, new Grade("0.00").hundredths);
+        assertEquals(427, new Grade("4.27").hundredths);
+        assertEquals(500, new Grade("05.00").hundredths);
+    }
+
+    @Test
+    public void compareTo() {
+        assertTrue(new Grade("3.99").compareTo(new Grade("4.00")) < 0);
+        assertTrue(new Grade("4.01").compareTo(new Grade("4.00")) > 0);
+        assertEquals(0, new Grade("04.00").compareTo(new Grade("4.00")));
+    }
+
+    @Test
+    public void isAtLeast() {
+        Grade minimum = new Grade("3.50");
+        assertTrue(new Grade("3.50").isAtLeast(minimum));
+        assertTrue(new Grade("5.00").isAtLeast(minimum));
+        assertFalse(new Grade("3.49").isAtLeast(minimum));
+    }
+
+    @Test
+    public void isWithin() {
+        Grade lowest = new Grade("3.00");
+        Grade highest = new Grade("4.00");
+        assertTrue(new Grade("3.00").isWithin(lowest, highest));
+        assertTrue(new Grade("4.00").isWithin(lowest, highest));
+        assertFalse(new Grade("2.99").isWithin(lowest, highest));
+        assertFalse(new Grade("4.01").isWithin(lowest, highest));
+    }
 }
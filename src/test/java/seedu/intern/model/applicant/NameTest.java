@@ -1,9 +1,12 @@
 package seedu.intern.model.applicant;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.intern.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -37,4 +40,18 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void hashCode_turkishLocale_consistentWithEquals() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            Name upperCase = new Name("IRIS");
+            Name lowerCase = new Name("iris");
+            assertTrue(upperCase.equals(lowerCase));
+            assertEquals(upperCase.hashCode(), lowerCase.hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
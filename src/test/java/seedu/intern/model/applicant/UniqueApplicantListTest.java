@@ -2,6 +2,7 @@ package seedu.intern.model.applicant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.intern.logic.commands.CommandTestUtil.VALID_SKILL_JAVA;
 import static seedu.intern.testutil.Assert.assertThrows;
@@ -11,6 +12,8 @@ import static seedu.intern.testutil.TypicalApplicants.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +60,38 @@ public class UniqueApplicantListTest {
         assertThrows(DuplicateApplicantException.class, () -> uniqueApplicantList.add(ALICE));
     }
 
+    @Test
+    public void add_applicantWithoutId_assignsUniqueId() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB.withId(uniqueApplicantList.asUnmodifiableObservableList().get(0).getId()));
+        Applicant storedAlice = uniqueApplicantList.asUnmodifiableObservableList().get(0);
+        Applicant storedBob = uniqueApplicantList.asUnmodifiableObservableList().get(1);
+        assertTrue(storedAlice.hasId());
+        assertTrue(storedBob.hasId());
+        assertNotEquals(storedAlice.getId(), storedBob.getId());
+        assertEquals(Optional.of(storedBob), uniqueApplicantList.getById(storedBob.getId()));
+    }
+
+    @Test
+    public void setApplicant_editedApplicant_keepsId() {
+        uniqueApplicantList.add(ALICE);
+        int id = uniqueApplicantList.asUnmodifiableObservableList().get(0).getId();
+        uniqueApplicantList.setApplicant(ALICE, BOB);
+        assertEquals(id, uniqueApplicantList.asUnmodifiableObservableList().get(0).getId());
+        assertEquals(Optional.of(BOB), uniqueApplicantList.getById(id));
+    }
+
+    @Test
+    public void remove_existingApplicant_updatesIdIndex() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        Applicant storedAlice = uniqueApplicantList.asUnmodifiableObservableList().get(0);
+        Applicant storedBob = uniqueApplicantList.asUnmodifiableObservableList().get(1);
+        uniqueApplicantList.remove(storedAlice);
+        assertEquals(Optional.empty(), uniqueApplicantList.getById(storedAlice.getId()));
+        assertEquals(Optional.of(storedBob), uniqueApplicantList.getById(storedBob.getId()));
+    }
+
     @Test
     public void setApplicant_nullTargetApplicant_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.setApplicant(null, ALICE));
@@ -126,6 +161,79 @@ public class UniqueApplicantListTest {
         assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
     }
 
+    @Test
+    public void removeAll_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueApplicantList.removeAll(null));
+    }
+
+    @Test
+    public void removeAll_applicantDoesNotExist_throwsApplicantNotFoundException() {
+        uniqueApplicantList.add(ALICE);
+        assertThrows(ApplicantNotFoundException.class, () -> uniqueApplicantList.removeAll(Arrays.asList(ALICE, BOB)));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(ALICE);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void removeAll_existingApplicants_removesApplicants() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.removeAll(Arrays.asList(BOB, ALICE));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void addAll_duplicateApplicant_throwsDuplicateApplicantException() {
+        uniqueApplicantList.add(ALICE);
+        Applicant editedAlice = new ApplicantBuilder(ALICE).withSkills(VALID_SKILL_JAVA).build();
+        assertThrows(DuplicateApplicantException.class, () -> uniqueApplicantList.addAll(Arrays.asList(BOB,
+                editedAlice)));
+        assertThrows(DuplicateApplicantException.class, () -> uniqueApplicantList.addAll(Arrays.asList(BOB, BOB)));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(ALICE);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void addAll_newApplicants_addsApplicantsWithIds() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.addAll(Arrays.asList(BOB));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(ALICE);
+        expectedUniqueApplicantList.add(BOB);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        Applicant addedBob = uniqueApplicantList.asUnmodifiableObservableList().get(1);
+        assertEquals(Optional.of(addedBob), uniqueApplicantList.getById(addedBob.getId()));
+    }
+
+    @Test
+    public void replaceAll_targetApplicantNotInList_throwsApplicantNotFoundException() {
+        uniqueApplicantList.add(ALICE);
+        assertThrows(ApplicantNotFoundException.class, () -> uniqueApplicantList.replaceAll(Map.of(BOB, ALICE)));
+    }
+
+    @Test
+    public void replaceAll_editedApplicantHasNonUniqueIdentity_throwsDuplicateApplicantException() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        assertThrows(DuplicateApplicantException.class, () -> uniqueApplicantList.replaceAll(Map.of(ALICE, BOB)));
+    }
+
+    @Test
+    public void replaceAll_editedApplicants_replacesInPlace() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        Applicant editedAlice = new ApplicantBuilder(ALICE).withSkills(VALID_SKILL_JAVA).build();
+        Applicant editedBob = new ApplicantBuilder(BOB).withSkills(VALID_SKILL_JAVA).build();
+        uniqueApplicantList.replaceAll(Map.of(ALICE, editedAlice, BOB, editedBob));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(editedAlice);
+        expectedUniqueApplicantList.add(editedBob);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
     @Test
     public void setApplicants_nullUniqueApplicantList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.setApplicants((UniqueApplicantList) null));
@@ -162,6 +270,66 @@ public class UniqueApplicantListTest {
             -> uniqueApplicantList.setApplicants(listWithDuplicateApplicants));
     }
 
+    @Test
+    public void equals_afterEdits_comparesContents() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.setApplicant(BOB, new ApplicantBuilder(BOB).withSkills(VALID_SKILL_JAVA).build());
+        uniqueApplicantList.remove(ALICE);
+
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(new ApplicantBuilder(BOB).withSkills(VALID_SKILL_JAVA).build());
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertEquals(expectedUniqueApplicantList.hashCode(), uniqueApplicantList.hashCode());
+
+        expectedUniqueApplicantList.add(ALICE);
+        assertNotEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void getCounters_afterChanges_matchRecount() {
+        Applicant editedAlice = new ApplicantBuilder(ALICE).withApplicationStatus("OFFERED").withJob("Tester").build();
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BOB);
+        uniqueApplicantList.setApplicant(ALICE, editedAlice);
+        assertEquals(1, uniqueApplicantList.getCounters().getStatusCount(ApplicationStatus.Status.OFFERED));
+        assertEquals(0, uniqueApplicantList.getCounters().getJobCount(ALICE.getJob()));
+        assertEquals(recount(editedAlice, BOB), uniqueApplicantList.getCounters());
+
+        uniqueApplicantList.replaceAll(Collections.singletonMap(editedAlice, ALICE));
+        assertEquals(recount(ALICE, BOB), uniqueApplicantList.getCounters());
+
+        uniqueApplicantList.remove(BOB);
+        assertEquals(recount(ALICE), uniqueApplicantList.getCounters());
+
+        uniqueApplicantList.removeAll(Collections.singletonList(ALICE));
+        assertEquals(0, uniqueApplicantList.getCounters().getTotal());
+        assertTrue(uniqueApplicantList.getCounters().getInstitutionCounts().isEmpty());
+    }
+
+    @Test
+    public void getCounters_failedChange_unchanged() {
+        uniqueApplicantList.add(ALICE);
+        assertThrows(ApplicantNotFoundException.class, () -> uniqueApplicantList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertEquals(recount(ALICE), uniqueApplicantList.getCounters());
+    }
+
+    @Test
+    public void setApplicants_uniqueApplicantList_copiesCounters() {
+        UniqueApplicantList replacement = new UniqueApplicantList();
+        replacement.add(ALICE);
+        replacement.add(BOB);
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.setApplicants(replacement);
+        assertEquals(replacement.getCounters(), uniqueApplicantList.getCounters());
+    }
+
+    private static ApplicantCounters recount(Applicant... applicants) {
+        UniqueApplicantList list = new UniqueApplicantList();
+        list.setApplicants(Arrays.asList(applicants));
+        return list.getCounters();
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
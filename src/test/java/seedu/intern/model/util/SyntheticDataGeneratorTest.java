@@ -0,0 +1,71 @@
+package seedu.intern.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.intern.model.ApplicantStatistics;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.ApplicationStatus.Status;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generateApplicants_sameCount_sameApplicants() {
+        assertEquals(SyntheticDataGenerator.generateApplicants(50), SyntheticDataGenerator.generateApplicants(50));
+    }
+
+    @Test
+    public void generateApplicants_basedOnSamples() {
+        Applicant[] samples = SampleDataUtil.getSampleApplicants();
+        List<Applicant> applicants = SyntheticDataGenerator.generateApplicants(samples.length * 2);
+        for (int i = 0; i < applicants.size(); i++) {
+            Applicant sample = samples[i % samples.length];
+            assertEquals(sample.getInstitution(), applicants.get(i).getInstitution());
+            assertEquals(sample.getJob(), applicants.get(i).getJob());
+            assertNotEquals(applicants.get(i).getApplicationStatus(),
+                    applicants.get((i + 1) % applicants.size()).getApplicationStatus());
+        }
+    }
+
+    @Test
+    public void generateInternWatcher_uniqueApplicants() {
+        InternWatcher internWatcher = SyntheticDataGenerator.generateInternWatcher(10_000);
+        assertEquals(10_000, internWatcher.getApplicantList().size());
+    }
+
+    @Test
+    public void nextApplicants_sameSeed_sameApplicants() {
+        assertEquals(new SyntheticDataGenerator(42).nextApplicants(100),
+                new SyntheticDataGenerator(42).nextApplicants(100));
+        assertNotEquals(new SyntheticDataGenerator(42).nextApplicants(100),
+                new SyntheticDataGenerator(43).nextApplicants(100));
+    }
+
+    @Test
+    public void nextApplicants_realisticDistributions() {
+        List<Applicant> applicants = new SyntheticDataGenerator(42).nextApplicants(10_000);
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.setApplicants(applicants);
+        ApplicantStatistics statistics = ApplicantStatistics.of(applicants);
+
+        // later stages of the funnel have fewer applicants
+        assertTrue(statistics.getStatusCount(Status.APPLIED) > statistics.getStatusCount(Status.RECEIVED));
+        assertTrue(statistics.getStatusCount(Status.RECEIVED) > statistics.getStatusCount(Status.OFFERED));
+        assertTrue(statistics.getStatusCount(Status.OFFERED) > statistics.getStatusCount(Status.ACCEPTED));
+
+        // the most common institution has far more applicants than the fifth most common
+        int mostCommon = statistics.getTopInstitutions().get(0).getValue();
+        int fifthMostCommon = statistics.getTopInstitutions().get(4).getValue();
+        assertTrue(mostCommon > 3 * fifthMostCommon);
+
+        // grades peak in the middle of the range
+        int[] gradeCounts = statistics.getGradeCounts();
+        assertTrue(gradeCounts[7] > gradeCounts[0] && gradeCounts[7] > gradeCounts[9]);
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.intern.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.commons.util.JsonUtil;
+import seedu.intern.logic.parser.CsvApplicantParser;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.util.SyntheticDataGenerator;
+
+public class ApplicantExporterTest {
+
+    private static final List<Applicant> APPLICANTS = new SyntheticDataGenerator(1).nextApplicants(50);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void getFormat() {
+        assertEquals(Optional.of(ApplicantExporter.Format.CSV), ApplicantExporter.getFormat(Paths.get("a.CSV")));
+        assertEquals(Optional.of(ApplicantExporter.Format.TSV), ApplicantExporter.getFormat(Paths.get("a.tsv.gz")));
+        assertEquals(Optional.of(ApplicantExporter.Format.JSON_LINES),
+                ApplicantExporter.getFormat(Paths.get("dir", "a.jsonl")));
+        assertEquals(Optional.empty(), ApplicantExporter.getFormat(Paths.get("a.json")));
+        assertEquals(Optional.empty(), ApplicantExporter.getFormat(Paths.get("a.gz")));
+    }
+
+    @Test
+    public void export_unsupportedFile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ApplicantExporter.export(APPLICANTS,
+                temporaryFolder.resolve("applicants.txt")));
+    }
+
+    @Test
+    public void export_csv_canBeImported() throws Exception {
+        Path file = temporaryFolder.resolve("exports").resolve("applicants.csv");
+        ApplicantExporter.export(APPLICANTS, file);
+
+        assertEquals(APPLICANTS, parseCsv(Files.readAllLines(file)));
+        assertFalse(Files.exists(temporaryFolder.resolve("exports").resolve("applicants.csv.part")));
+    }
+
+    @Test
+    public void export_compressedTsv_canBeImported() throws Exception {
+        Path file = temporaryFolder.resolve("applicants.tsv.gz");
+        ApplicantExporter.export(APPLICANTS, file);
+
+        List<String> lines = readCompressed(file);
+        assertTrue(lines.get(0).contains("\t"));
+        assertEquals(APPLICANTS, parseCsv(lines));
+    }
+
+    @Test
+    public void export_jsonLines_oneApplicantPerLine() throws Exception {
+        Path file = temporaryFolder.resolve("applicants.jsonl");
+        ApplicantExporter.export(APPLICANTS, file);
+
+        List<Applicant> applicants = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            applicants.add(JsonUtil.fromJsonString(line, JsonAdaptedApplicant.class).toModelType());
+        }
+        assertEquals(APPLICANTS, applicants);
+    }
+
+    @Test
+    public void exportInBackground_replacesExistingFile() throws Exception {
+        Path file = temporaryFolder.resolve("applicants.csv");
+        Files.write(file, List.of("old contents"));
+
+        ApplicantExporter.exportInBackground(APPLICANTS.subList(0, 1), file).get();
+
+        assertEquals(APPLICANTS.subList(0, 1), parseCsv(Files.readAllLines(file)));
+    }
+
+    private static List<Applicant> parseCsv(List<String> lines) throws Exception {
+        CsvApplicantParser parser = new CsvApplicantParser(lines.get(0));
+        List<Applicant> applicants = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            applicants.add(parser.parse(line));
+        }
+        return applicants;
+    }
+
+    private static List<String> readCompressed(Path file) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.intern.commons.exceptions.IllegalValueException;
+import seedu.intern.commons.util.JsonUtil;
 import seedu.intern.model.applicant.ApplicationStatus;
 import seedu.intern.model.applicant.Course;
 import seedu.intern.model.applicant.Email;
@@ -53,6 +54,20 @@ public class JsonAdaptedApplicantTest {
         assertEquals(BENSON, applicant.toModelType());
     }
 
+    @Test
+    public void toModelType_applicantWithId_keepsId() throws Exception {
+        JsonAdaptedApplicant applicant = new JsonAdaptedApplicant(BENSON.withId(7));
+        assertEquals(7, applicant.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_jsonWithInvalidId_throwsIllegalValueException() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonAdaptedApplicant(BENSON.withId(1)))
+                .replace("\"id\" : 1", "\"id\" : -1");
+        JsonAdaptedApplicant applicant = JsonUtil.fromJsonString(json, JsonAdaptedApplicant.class);
+        assertThrows(IllegalValueException.class, JsonAdaptedApplicant.INVALID_ID_MESSAGE, applicant::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedApplicant applicant = new JsonAdaptedApplicant(INVALID_NAME, VALID_PHONE, VALID_EMAIL,
@@ -1,9 +1,13 @@
 package seedu.intern.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.intern.testutil.Assert.assertThrows;
+import static seedu.intern.testutil.TypicalApplicants.getTypicalInternWatcher;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -79,4 +83,23 @@ public class JsonInternWatcherStorageTest {
     public void saveInternWatcher_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveInternWatcher(new InternWatcher(), null));
     }
+
+    @Test
+    public void isDirectoryPath() {
+        assertTrue(JsonInternWatcherStorage.isDirectoryPath(testFolder));
+        assertTrue(JsonInternWatcherStorage.isDirectoryPath(testFolder.resolve("data")));
+        assertFalse(JsonInternWatcherStorage.isDirectoryPath(testFolder.resolve("data.json")));
+    }
+
+    @Test
+    public void readAndSaveInternWatcher_directory_success() throws Exception {
+        Path directory = testFolder.resolve("data");
+        InternWatcher original = getTypicalInternWatcher();
+        JsonInternWatcherStorage storage = new JsonInternWatcherStorage(directory);
+
+        storage.saveInternWatcher(original);
+
+        assertTrue(Files.isRegularFile(directory.resolve(JsonShardDirectory.MANIFEST_FILE)));
+        assertEquals(original, new InternWatcher(new JsonInternWatcherStorage(directory).readInternWatcher().get()));
+    }
 }
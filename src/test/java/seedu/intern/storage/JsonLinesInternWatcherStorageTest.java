@@ -0,0 +1,182 @@
+package seedu.intern.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.testutil.ApplicantBuilder;
+
+public class JsonLinesInternWatcherStorageTest {
+
+    private static final int APPLICANT_COUNT = 50;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonLinesInternWatcherStorage storage;
+    private InternWatcher internWatcher;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("internwatcher.jsonl");
+        storage = new JsonLinesInternWatcherStorage(filePath);
+        internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(1).nextApplicants(APPLICANT_COUNT));
+        storage.saveInternWatcher(internWatcher);
+    }
+
+    @Test
+    public void forFile() {
+        assertTrue(InternWatcherStorage.forFile(Paths.get("data", "a.jsonl"))
+                instanceof JsonLinesInternWatcherStorage);
+        assertTrue(InternWatcherStorage.forFile(Paths.get("data", "a.json")) instanceof JsonInternWatcherStorage);
+    }
+
+    @Test
+    public void readInternWatcher_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readInternWatcher(null));
+    }
+
+    @Test
+    public void readInternWatcher_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readInternWatcher(testFolder.resolve("missing.jsonl")).isPresent());
+    }
+
+    @Test
+    public void saveInternWatcher_newFile_oneLinePerApplicant() throws Exception {
+        assertEquals(APPLICANT_COUNT, Files.readAllLines(filePath).size());
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void saveInternWatcher_changes_appendsOnlyChanges() throws Exception {
+        List<String> linesBefore = Files.readAllLines(filePath);
+        List<Applicant> applicants = internWatcher.getApplicantList();
+        internWatcher.removeApplicant(applicants.get(3));
+        internWatcher.setApplicant(applicants.get(5), new ApplicantBuilder(applicants.get(5))
+                .withPhone("91234567").build());
+        internWatcher.addApplicant(new ApplicantBuilder().withName("Newly Added").build());
+
+        storage.saveInternWatcher(internWatcher);
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(linesBefore, lines.subList(0, APPLICANT_COUNT));
+        assertEquals(APPLICANT_COUNT + 3, lines.size());
+        assertTrue(lines.get(APPLICANT_COUNT).startsWith("{\"deleted\":"));
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void saveInternWatcher_noChanges_fileUnchanged() throws Exception {
+        List<String> linesBefore = Files.readAllLines(filePath);
+        storage.saveInternWatcher(new InternWatcher(internWatcher));
+        assertEquals(linesBefore, Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void saveInternWatcher_afterRead_appendsOnlyChanges() throws Exception {
+        JsonLinesInternWatcherStorage otherStorage = new JsonLinesInternWatcherStorage(filePath);
+        InternWatcher readBack = new InternWatcher(otherStorage.readInternWatcher().get());
+        readBack.removeApplicant(readBack.getApplicantList().get(0));
+
+        otherStorage.saveInternWatcher(readBack);
+
+        assertEquals(APPLICANT_COUNT + 1, Files.readAllLines(filePath).size());
+        assertEquals(readBack, read());
+    }
+
+    @Test
+    public void saveInternWatcher_reordered_rewritesFile() throws Exception {
+        List<Applicant> applicants = new ArrayList<>(internWatcher.getApplicantList());
+        Collections.reverse(applicants);
+        internWatcher.setApplicants(applicants);
+
+        storage.saveInternWatcher(internWatcher);
+
+        assertEquals(APPLICANT_COUNT, Files.readAllLines(filePath).size());
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void saveInternWatcher_fileChangedElsewhere_rewritesFile() throws Exception {
+        Files.write(filePath, "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        internWatcher.removeApplicant(internWatcher.getApplicantList().get(0));
+
+        storage.saveInternWatcher(internWatcher);
+
+        assertEquals(APPLICANT_COUNT - 1, Files.readAllLines(filePath).size());
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void saveInternWatcher_manySupersededRecords_compactsFile() throws Exception {
+        Applicant applicant = internWatcher.getApplicantList().get(0);
+        for (int i = 0; i <= APPLICANT_COUNT + JsonLinesInternWatcherStorage.COMPACTION_SLACK; i++) {
+            Applicant edited = new ApplicantBuilder(applicant).withPhone(String.valueOf(10000000 + i)).build();
+            internWatcher.setApplicant(applicant, edited);
+            applicant = edited;
+            storage.saveInternWatcher(internWatcher);
+        }
+
+        assertTrue(Files.readAllLines(filePath).size() <= 2 * APPLICANT_COUNT
+                + JsonLinesInternWatcherStorage.COMPACTION_SLACK);
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void compact_dropsSupersededRecords() throws Exception {
+        internWatcher.removeApplicant(internWatcher.getApplicantList().get(0));
+        storage.saveInternWatcher(internWatcher);
+
+        storage.compact();
+
+        assertEquals(APPLICANT_COUNT - 1, Files.readAllLines(filePath).size());
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void readInternWatcher_incompleteLastLine_ignored() throws Exception {
+        Files.write(filePath, "{\"name\":\"Half Writ".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void readInternWatcher_invalidLine_throwsDataConversionException() throws Exception {
+        List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+        lines.add(1, "not json");
+        Files.write(filePath, lines);
+        assertThrows(DataConversionException.class, this::read);
+    }
+
+    @Test
+    public void readInternWatcher_duplicateApplicants_throwsDataConversionException() throws Exception {
+        List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+        lines.add(lines.get(0).replaceFirst("\"id\":\\d+", "\"id\":" + (APPLICANT_COUNT + 100)));
+        Files.write(filePath, lines);
+        assertThrows(DataConversionException.class, this::read);
+    }
+
+    private ReadOnlyInternWatcher read() throws Exception {
+        return new JsonLinesInternWatcherStorage(filePath).readInternWatcher().get();
+    }
+}
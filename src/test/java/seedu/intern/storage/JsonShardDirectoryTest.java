@@ -0,0 +1,146 @@
+package seedu.intern.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.commons.exceptions.DataConversionException;
+import seedu.intern.commons.util.JsonUtil;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.testutil.ApplicantBuilder;
+
+public class JsonShardDirectoryTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directory;
+    private InternWatcher internWatcher;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        directory = testFolder.resolve("internwatcher");
+        internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(1).nextApplicants(200));
+        new JsonShardDirectory().save(internWatcher, directory);
+    }
+
+    @Test
+    public void read_missingManifest_emptyResult() throws Exception {
+        assertFalse(new JsonShardDirectory().read(testFolder).isPresent());
+    }
+
+    @Test
+    public void save_oneShardPerJob() throws Exception {
+        JsonShardManifest manifest = readManifest();
+        long jobCount = internWatcher.getApplicantList().stream().map(Applicant::getJob).distinct().count();
+        assertEquals(jobCount, manifest.getShards().size());
+        assertEquals(jobCount, shardFiles().size());
+        assertEquals(internWatcher, new JsonShardDirectory().read(directory).get());
+    }
+
+    @Test
+    public void save_afterEdit_rewritesOnlyDirtyShard() throws Exception {
+        JsonShardDirectory shardDirectory = new JsonShardDirectory();
+        InternWatcher readBack = new InternWatcher(shardDirectory.read(directory).get());
+        Map<String, String> filesBefore = filesByKey(readManifest());
+        Applicant target = readBack.getApplicantList().get(0);
+        readBack.setApplicant(target, new ApplicantBuilder(target).withPhone("91234567").build());
+
+        shardDirectory.save(readBack, directory);
+
+        Map<String, String> filesAfter = filesByKey(readManifest());
+        for (String key : filesBefore.keySet()) {
+            assertEquals(key.equals(target.getJob().jobName), !filesBefore.get(key).equals(filesAfter.get(key)));
+        }
+        assertEquals(filesAfter.size(), shardFiles().size());
+        assertEquals(readBack, new JsonShardDirectory().read(directory).get());
+    }
+
+    @Test
+    public void save_noChanges_manifestUnchanged() throws Exception {
+        JsonShardDirectory shardDirectory = new JsonShardDirectory();
+        InternWatcher readBack = new InternWatcher(shardDirectory.read(directory).get());
+        long generation = readManifest().getGeneration();
+
+        shardDirectory.save(readBack, directory);
+
+        assertEquals(generation, readManifest().getGeneration());
+    }
+
+    @Test
+    public void save_lastApplicantOfJobDeleted_shardRemoved() throws Exception {
+        JsonShardDirectory shardDirectory = new JsonShardDirectory();
+        InternWatcher readBack = new InternWatcher(shardDirectory.read(directory).get());
+        Applicant added = new ApplicantBuilder().withName("Only Tester").withJob("Tester").build();
+        readBack.addApplicant(added);
+        shardDirectory.save(readBack, directory);
+        int shardCount = readManifest().getShards().size();
+
+        readBack.removeApplicant(added);
+        shardDirectory.save(readBack, directory);
+
+        assertEquals(shardCount - 1, readManifest().getShards().size());
+        assertEquals(shardCount - 1, shardFiles().size());
+    }
+
+    @Test
+    public void read_cohortManifest_resavedByCohort() throws Exception {
+        JsonShardManifest manifest = readManifest();
+        JsonUtil.saveJsonFile(new JsonShardManifest("cohort", manifest.getGeneration(), manifest.getShards()),
+                directory.resolve(JsonShardDirectory.MANIFEST_FILE));
+        JsonShardDirectory shardDirectory = new JsonShardDirectory();
+        InternWatcher readBack = new InternWatcher(shardDirectory.read(directory).get());
+
+        shardDirectory.save(readBack, directory);
+
+        assertTrue(shardFiles().stream().allMatch(file -> file.startsWith("cohort-")));
+        assertEquals(internWatcher, new JsonShardDirectory().read(directory).get());
+    }
+
+    @Test
+    public void read_unknownShardKey_throwsDataConversionException() throws Exception {
+        JsonUtil.saveJsonFile(new JsonShardManifest("phone", 1, List.of()),
+                directory.resolve(JsonShardDirectory.MANIFEST_FILE));
+        assertThrows(DataConversionException.class, () -> new JsonShardDirectory().read(directory));
+    }
+
+    @Test
+    public void read_missingShard_throwsDataConversionException() throws Exception {
+        Files.delete(directory.resolve(readManifest().getShards().get(0).getFile()));
+        assertThrows(DataConversionException.class, () -> new JsonShardDirectory().read(directory));
+    }
+
+    private JsonShardManifest readManifest() throws Exception {
+        return JsonUtil.readJsonFile(directory.resolve(JsonShardDirectory.MANIFEST_FILE), JsonShardManifest.class)
+                .get();
+    }
+
+    private static Map<String, String> filesByKey(JsonShardManifest manifest) {
+        return manifest.getShards().stream().collect(Collectors.toMap(JsonShardManifest.Shard::getKey,
+                JsonShardManifest.Shard::getFile));
+    }
+
+    private List<String> shardFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> !name.equals(JsonShardDirectory.MANIFEST_FILE))
+                    .collect(Collectors.toList());
+        }
+    }
+}
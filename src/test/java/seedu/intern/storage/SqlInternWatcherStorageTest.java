@@ -0,0 +1,131 @@
+package seedu.intern.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.logic.commands.FilterCommand.FilterApplicantDescriptor;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.CombineFiltersPredicate;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.testutil.ApplicantBuilder;
+import seedu.intern.testutil.FilterApplicantDescriptorBuilder;
+
+public class SqlInternWatcherStorageTest {
+
+    private static final int APPLICANT_COUNT = 200;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private SqlInternWatcherStorage storage;
+    private InternWatcher internWatcher;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("internwatcher" + SqlInternWatcherStorage.FILE_EXTENSION);
+        storage = new SqlInternWatcherStorage(filePath);
+        internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(1).nextApplicants(APPLICANT_COUNT));
+        storage.saveInternWatcher(internWatcher);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        storage.close();
+    }
+
+    @Test
+    public void forFile() {
+        assertTrue(InternWatcherStorage.forFile(Paths.get("data", "a.mv.db")) instanceof SqlInternWatcherStorage);
+    }
+
+    @Test
+    public void readInternWatcher_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readInternWatcher(testFolder.resolve("missing.mv.db")).isPresent());
+    }
+
+    @Test
+    public void saveInternWatcher_newDatabase_readBack() throws Exception {
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void saveInternWatcher_changes_readBack() throws Exception {
+        List<Applicant> applicants = internWatcher.getApplicantList();
+        internWatcher.removeApplicant(applicants.get(3));
+        internWatcher.setApplicant(applicants.get(5), new ApplicantBuilder(applicants.get(5))
+                .withPhone("91234567").withSkills("Rust").build());
+        internWatcher.addApplicant(new ApplicantBuilder().withName("Newly Added").build());
+
+        storage.saveInternWatcher(internWatcher);
+
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void saveInternWatcher_afterRead_readBack() throws Exception {
+        storage.close();
+        InternWatcher readBack = new InternWatcher(storage.readInternWatcher().get());
+        readBack.removeApplicant(readBack.getApplicantList().get(0));
+        readBack.addApplicant(new ApplicantBuilder().withName("Newly Added").build());
+
+        storage.saveInternWatcher(readBack);
+
+        assertEquals(readBack, read());
+    }
+
+    @Test
+    public void saveInternWatcher_reordered_readBack() throws Exception {
+        List<Applicant> applicants = new ArrayList<>(internWatcher.getApplicantList());
+        Collections.reverse(applicants);
+        internWatcher.setApplicants(applicants);
+
+        storage.saveInternWatcher(internWatcher);
+
+        assertEquals(internWatcher, read());
+    }
+
+    @Test
+    public void findApplicants_sameAsFilter() throws Exception {
+        List<FilterApplicantDescriptor> descriptors = List.of(
+                new FilterApplicantDescriptorBuilder().build(),
+                new FilterApplicantDescriptorBuilder().withGrade("4.00").build(),
+                new FilterApplicantDescriptorBuilder().withGraduationYearMonth("06/2025")
+                        .withApplicationStatus("APPLIED", "INTERVIEWED").build(),
+                new FilterApplicantDescriptorBuilder().withInstitution("NUS", "SMU").withSkills("Java").build(),
+                new FilterApplicantDescriptorBuilder().withJobs("software engineer", "analyst")
+                        .withCourses("Computer").build());
+
+        for (FilterApplicantDescriptor descriptor : descriptors) {
+            List<Applicant> expected = internWatcher.getApplicantList().stream()
+                    .filter(new CombineFiltersPredicate(descriptor))
+                    .collect(Collectors.toList());
+            assertEquals(expected, storage.findApplicants(descriptor));
+        }
+    }
+
+    private ReadOnlyInternWatcher read() throws Exception {
+        SqlInternWatcherStorage otherStorage = new SqlInternWatcherStorage(filePath);
+        try {
+            return otherStorage.readInternWatcher().get();
+        } finally {
+            otherStorage.close();
+        }
+    }
+}
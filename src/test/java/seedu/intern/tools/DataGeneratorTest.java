@@ -0,0 +1,27 @@
+package seedu.intern.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.model.ReadOnlyInternWatcher;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.storage.JsonInternWatcherStorage;
+
+public class DataGeneratorTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void generate_writesGeneratedApplicants() throws Exception {
+        Path dataFile = temporaryFolder.resolve("internwatcher.json");
+        DataGenerator.generate(200, dataFile, 7);
+
+        ReadOnlyInternWatcher written = new JsonInternWatcherStorage(dataFile).readInternWatcher().get();
+        assertEquals(new SyntheticDataGenerator(7).nextApplicants(200), written.getApplicantList());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.intern.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.logic.Logic;
+import seedu.intern.logic.LogicManager;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.ModelManager;
+import seedu.intern.model.UserPrefs;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.storage.JsonInternWatcherStorage;
+import seedu.intern.storage.JsonUserPrefsStorage;
+import seedu.intern.storage.StorageManager;
+
+public class LoadTestTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void readScript_skipsBlankAndCommentLines() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList("# warm up", "list", "", "  find Alex  "));
+        assertEquals(Arrays.asList("list", "find Alex"), LoadTest.readScript(script));
+    }
+
+    @Test
+    public void run_countsExecutedAndFailedCommands() throws Exception {
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(1).nextApplicants(100));
+        StorageManager storage = new StorageManager(
+                new JsonInternWatcherStorage(temporaryFolder.resolve("internwatcher.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")));
+        Logic logic = new LogicManager(new ModelManager(internWatcher, new UserPrefs()), storage);
+        List<String> commands = Arrays.asList("list", "find Alex", "filter g/3.00", "unknown command");
+
+        LoadTest.Result result = new LoadTest(logic, commands).run(3);
+        assertEquals(12, result.getExecuted());
+        assertEquals(3, result.getFailed());
+        assertTrue(result.getThroughput() > 0);
+        assertTrue(result.toString().startsWith("Executed 12 commands (3 failed)"));
+    }
+}
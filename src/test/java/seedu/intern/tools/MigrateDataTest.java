@@ -0,0 +1,39 @@
+package seedu.intern.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.storage.JsonInternWatcherStorage;
+import seedu.intern.storage.JsonLinesInternWatcherStorage;
+
+public class MigrateDataTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void migrate_jsonToJsonLines_copiesApplicants() throws Exception {
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(3).nextApplicants(100));
+        Path source = temporaryFolder.resolve("internwatcher.json");
+        new JsonInternWatcherStorage(source).saveInternWatcher(internWatcher);
+        Path target = temporaryFolder.resolve("internwatcher.jsonl");
+
+        assertEquals(100, MigrateData.migrate(source, target));
+        assertEquals(internWatcher, new JsonLinesInternWatcherStorage(target).readInternWatcher().get());
+    }
+
+    @Test
+    public void migrate_missingSource_throwsIoException() {
+        assertThrows(IOException.class, () -> MigrateData.migrate(temporaryFolder.resolve("missing.json"),
+                temporaryFolder.resolve("internwatcher.jsonl")));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.intern.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.intern.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.intern.logic.commands.FilterCommand.FilterApplicantDescriptor;
+import seedu.intern.logic.parser.FilterCommandParser;
+import seedu.intern.model.InternWatcher;
+import seedu.intern.model.applicant.Applicant;
+import seedu.intern.model.applicant.CombineFiltersPredicate;
+import seedu.intern.model.util.SyntheticDataGenerator;
+import seedu.intern.storage.JsonInternWatcherStorage;
+
+public class QueryDataTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void query_jsonFile_sameAsFilter() throws Exception {
+        InternWatcher internWatcher = new InternWatcher();
+        internWatcher.setApplicants(new SyntheticDataGenerator(5).nextApplicants(200));
+        Path dataFile = temporaryFolder.resolve("internwatcher.json");
+        new JsonInternWatcherStorage(dataFile).saveInternWatcher(internWatcher);
+        FilterApplicantDescriptor descriptor = new FilterCommandParser().parseDescriptor(" g/3.00 a/APPLIED");
+
+        List<Applicant> expected = internWatcher.getApplicantList().stream()
+                .filter(new CombineFiltersPredicate(descriptor))
+                .collect(Collectors.toList());
+        assertEquals(expected, QueryData.query(dataFile, descriptor));
+    }
+
+    @Test
+    public void query_missingFile_throwsIoException() throws Exception {
+        FilterApplicantDescriptor descriptor = new FilterCommandParser().parseDescriptor(" g/3.00");
+        assertThrows(IOException.class, () -> QueryData.query(temporaryFolder.resolve("missing.json"), descriptor));
+    }
+}